@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.fork;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.misc.Opt;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqOnce;
+import org.takes.tk.TkEmpty;
+
+/**
+ * Benchmark of {@link FkRouter} against {@link FkChain}, which is
+ * what {@link TkFork} uses, and of {@link TkFork} as a whole.
+ *
+ * <p>Routes look like {@code /api/v1/resource42/(\d+)}, the "hit"
+ * request matches the last of them, the "miss" request matches none.
+ * Run it with {@code mvn -Pjmh test -Djmh.bench=FkRouterBench}.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FkRouterBench {
+
+    /**
+     * How many routes.
+     */
+    @Param({"10", "100", "1000"})
+    private int routes;
+
+    /**
+     * Linear chain.
+     */
+    private FkChain chain;
+
+    /**
+     * Router.
+     */
+    private FkRouter router;
+
+    /**
+     * Take with the chain.
+     */
+    private TkFork fork;
+
+    /**
+     * Request that matches the last route.
+     */
+    private Request hit;
+
+    /**
+     * Request that matches no route.
+     */
+    private Request miss;
+
+    /**
+     * Build routes.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        final List<FkRegex> forks = new ArrayList<>(this.routes);
+        for (int idx = 0; idx < this.routes; ++idx) {
+            forks.add(
+                new FkRegex(
+                    String.format("/api/v1/resource%d/(\\d+)", idx),
+                    new TkEmpty()
+                )
+            );
+        }
+        this.chain = new FkChain(new ArrayList<>(forks));
+        this.router = new FkRouter(forks);
+        this.fork = new TkFork(new ArrayList<>(forks));
+        this.hit = new RqOnce(
+            new RqFake(
+                "GET",
+                String.format("/api/v1/resource%d/42", this.routes - 1)
+            )
+        );
+        this.miss = new RqOnce(new RqFake("GET", "/api/v2/missing/42"));
+        this.router.route(this.miss);
+    }
+
+    /**
+     * Route a hit through the chain.
+     * @return Response, if any
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Opt<?> chainHit() throws Exception {
+        return this.chain.route(this.hit);
+    }
+
+    /**
+     * Route a hit through the router.
+     * @return Response, if any
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Opt<?> routerHit() throws Exception {
+        return this.router.route(this.hit);
+    }
+
+    /**
+     * Route a hit through the take, and get its response.
+     * @return Response
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Response forkHit() throws Exception {
+        return this.fork.act(this.hit);
+    }
+
+    /**
+     * Route a miss through the chain.
+     * @return Response, if any
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Opt<?> chainMiss() throws Exception {
+        return this.chain.route(this.miss);
+    }
+
+    /**
+     * Route a miss through the router.
+     * @return Response, if any
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Opt<?> routerMiss() throws Exception {
+        return this.router.route(this.miss);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.takes.rq.RqPrint;
+import org.takes.rs.RsWithBody;
+
+/**
+ * Benchmark of the memory allocated by {@link BkBasic} for one exchange,
+ * with a request body read by the take and a response body printed.
+ *
+ * <p>The socket lives in memory, so only what {@link BkBasic}, the
+ * request and the response allocate is counted. Look at
+ * {@code gc.alloc.rate.norm}, which is bytes per exchange, reported by
+ * the GC profiler: buffers of copy loops, taken from
+ * {@link org.takes.misc.Buffers}, are not in there. Run it with
+ * {@code mvn -Pjmh test -Djmh.bench=BkBasicAllocBench}.
+ *
+ * @since 2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BkBasicAllocBench {
+
+    /**
+     * Size of the bodies.
+     */
+    @Param({"128", "65536"})
+    private int size;
+
+    /**
+     * Request.
+     */
+    private byte[] request;
+
+    /**
+     * Body of the response.
+     */
+    private byte[] body;
+
+    /**
+     * Back.
+     */
+    private BkBasic back;
+
+    /**
+     * Make the request and the back.
+     */
+    @Setup
+    public void setup() {
+        this.body = new byte[this.size];
+        final byte[] head = String.join(
+            "\r\n",
+            "POST /upload HTTP/1.1",
+            "Host: localhost",
+            "Content-Type: application/octet-stream",
+            String.format("Content-Length: %d", this.size),
+            "",
+            ""
+        ).getBytes(StandardCharsets.US_ASCII);
+        this.request = new byte[head.length + this.size];
+        System.arraycopy(head, 0, this.request, 0, head.length);
+        this.back = new BkBasic(
+            req -> {
+                new RqPrint(req).printBody(OutputStream.nullOutputStream());
+                return new RsWithBody(this.body);
+            }
+        );
+    }
+
+    /**
+     * Exchange one request on a fresh connection.
+     * @return The socket
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public Socket exchange() throws IOException {
+        final Socket socket = new BkBasicAllocBench.Wire(
+            new ByteArrayInputStream(this.request)
+        );
+        this.back.accept(socket);
+        return socket;
+    }
+
+    /**
+     * Socket in memory, which forgets what is written into it.
+     *
+     * @since 2.0
+     */
+    private static final class Wire extends Socket {
+
+        /**
+         * Input.
+         */
+        private final InputStream input;
+
+        /**
+         * Ctor.
+         * @param stream Input
+         */
+        Wire(final InputStream stream) {
+            super();
+            this.input = stream;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return this.input;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public InetAddress getInetAddress() {
+            return InetAddress.getLoopbackAddress();
+        }
+
+        @Override
+        public InetAddress getLocalAddress() {
+            return InetAddress.getLoopbackAddress();
+        }
+    }
+}
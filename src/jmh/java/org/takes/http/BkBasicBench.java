@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.takes.facets.fork.FkRegex;
+import org.takes.facets.fork.TkFork;
+
+/**
+ * Benchmark of entire HTTP exchanges with {@link BkBasic}, through
+ * {@link FtBasic}, over a loopback socket.
+ *
+ * <p>Every exchange opens a connection, sends a request, and reads the
+ * response until the server closes the connection. Run it with
+ * {@code mvn -Pjmh test -Djmh.bench=BkBasicBench}.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BkBasicBench {
+
+    /**
+     * Request.
+     */
+    private final byte[] request = String.join(
+        "\r\n",
+        "GET /hello?name=world HTTP/1.1",
+        "Host: localhost",
+        "Accept: text/plain",
+        "Accept-Encoding: gzip, deflate, br",
+        "",
+        ""
+    ).getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Is the server to stop?
+     */
+    private final AtomicBoolean stop = new AtomicBoolean();
+
+    /**
+     * Server thread.
+     */
+    private Thread server;
+
+    /**
+     * Server port.
+     */
+    private int port;
+
+    /**
+     * Start the server.
+     * @throws IOException If fails
+     */
+    @Setup
+    @SuppressWarnings("PMD.CloseResource")
+    public void setup() throws IOException {
+        final ServerSocket socket = ServerSocketChannel.open().bind(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)
+        ).socket();
+        this.port = socket.getLocalPort();
+        final Front front = new FtBasic(
+            new BkSafe(
+                new BkBasic(
+                    new TkFork(
+                        new FkRegex("/hello", "Hello, world!"),
+                        new FkRegex("/bye", "Bye!")
+                    )
+                )
+            ),
+            socket
+        );
+        this.server = new Thread(
+            () -> {
+                try {
+                    front.start(this.stop::get);
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            },
+            "BkBasicBench"
+        );
+        this.server.setDaemon(true);
+        this.server.start();
+    }
+
+    /**
+     * Stop the server.
+     * @throws InterruptedException If interrupted
+     */
+    @TearDown
+    public void shutdown() throws InterruptedException {
+        this.stop.set(true);
+        this.server.join();
+    }
+
+    /**
+     * Send the request and read the response.
+     * @return Bytes of the response
+     * @throws IOException If fails
+     */
+    @Benchmark
+    @SuppressWarnings("PMD.CloseResource")
+    public long exchange() throws IOException {
+        long total = 0L;
+        try (Socket socket = new Socket(
+            InetAddress.getLoopbackAddress(), this.port
+        )) {
+            final OutputStream output = socket.getOutputStream();
+            output.write(this.request);
+            output.flush();
+            final InputStream input = socket.getInputStream();
+            final byte[] buf = new byte[8192];
+            while (true) {
+                final int len = input.read(buf);
+                if (len < 0) {
+                    break;
+                }
+                total += len;
+            }
+        }
+        return total;
+    }
+}
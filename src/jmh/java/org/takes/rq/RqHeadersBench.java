@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.takes.Request;
+
+/**
+ * Benchmark of header lookups by {@link RqHeaders.Base} and
+ * {@link RqHeaders.Smart}.
+ *
+ * <p>The request has the head of a typical browser request, the header
+ * looked for is the last one. Run it with
+ * {@code mvn -Pjmh test -Djmh.bench=RqHeadersBench}.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RqHeadersBench {
+
+    /**
+     * Request.
+     */
+    private final Request request = new RqFake(
+        new ListOf<>(
+            "GET /index.html?page=1&sort=desc HTTP/1.1",
+            "Host: www.example.com",
+            "User-Agent: Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Firefox/128.0",
+            "Accept: text/html,application/xhtml+xml,application/xml;q=0.9",
+            "Accept-Language: en-US,en;q=0.5",
+            "Accept-Encoding: gzip, deflate, br",
+            "Cookie: PSESSIONID=a1b2c3d4e5f6; theme=dark",
+            "Connection: keep-alive"
+        ),
+        ""
+    );
+
+    /**
+     * Find all values of the header.
+     * @return Values
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public List<String> header() throws IOException {
+        return new RqHeaders.Base(this.request).header("connection");
+    }
+
+    /**
+     * Find the only value of the header.
+     * @return Value
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String single() throws IOException {
+        return new RqHeaders.Smart(this.request).single("Connection");
+    }
+}
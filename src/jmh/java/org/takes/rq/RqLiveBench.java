@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link LiveHead} against {@link LegacyHead}, and of
+ * {@link RqLive} as a whole.
+ *
+ * <p>Both parsers read the same head of a typical browser request,
+ * run it with {@code mvn -Pjmh test -Djmh.bench=RqLiveBench}.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RqLiveBench {
+
+    /**
+     * Request head.
+     */
+    private final byte[] head = String.join(
+        "\r\n",
+        "GET /index.html?page=1&sort=desc HTTP/1.1",
+        "Host: www.example.com",
+        "User-Agent: Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Firefox/128.0",
+        "Accept: text/html,application/xhtml+xml,application/xml;q=0.9",
+        "Accept-Language: en-US,en;q=0.5",
+        "Accept-Encoding: gzip, deflate, br",
+        "Cookie: PSESSIONID=a1b2c3d4e5f6; theme=dark",
+        "Connection: keep-alive",
+        "",
+        ""
+    ).getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Parse the head with the current parser.
+     * @return Lines
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public Collection<String> live() throws IOException {
+        return new LiveHead(new ByteArrayInputStream(this.head)).lines();
+    }
+
+    /**
+     * Parse the head with the parser used before.
+     * @return Lines
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public Collection<String> legacy() throws IOException {
+        return new LegacyHead(new ByteArrayInputStream(this.head)).lines();
+    }
+
+    /**
+     * Read the request, as {@link org.takes.http.BkBasic} does.
+     * @return Head
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public Iterable<String> request() throws IOException {
+        return new RqLive(new ByteArrayInputStream(this.head)).head();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.takes.Response;
+
+/**
+ * Benchmark of {@link RsPrint}, printing a response with a few headers.
+ *
+ * <p>Run it with {@code mvn -Pjmh test -Djmh.bench=RsPrintBench}.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsPrintBench {
+
+    /**
+     * Size of the body.
+     */
+    @Param({"128", "65536"})
+    private int size;
+
+    /**
+     * Body.
+     */
+    private byte[] body;
+
+    /**
+     * Make the body.
+     */
+    @Setup
+    public void setup() {
+        this.body = new byte[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.body[idx] = (byte) ('a' + idx % 26);
+        }
+    }
+
+    /**
+     * Print the head only.
+     * @return Bytes printed
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public int head() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new RsPrint(this.response()).printHead(output);
+        return output.size();
+    }
+
+    /**
+     * Print the entire response.
+     * @return Bytes printed
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public int full() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(
+            this.size + 256
+        );
+        new RsPrint(this.response()).print(output);
+        return output.size();
+    }
+
+    /**
+     * Response to print.
+     * @return Response
+     */
+    private Response response() {
+        return new RsWithHeaders(
+            new RsWithType(new RsWithBody(this.body), "text/plain"),
+            "Cache-Control: max-age=60",
+            "X-Frame-Options: DENY"
+        );
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.transform.URIResolver;
+import javax.xml.transform.stream.StreamSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of rendering by {@link RsGzip}, {@link RsXslt} and
+ * {@link RsVelocity}.
+ *
+ * <p>Each of them renders a page of about 16 kilobytes, which is read
+ * to the end. Run it with {@code mvn -Pjmh test -Djmh.bench=RsRenderBench}.
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsRenderBench {
+
+    /**
+     * How many items on the page.
+     */
+    private static final int ITEMS = 500;
+
+    /**
+     * Stylesheet.
+     */
+    private static final String XSL = String.join(
+        "",
+        "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform'",
+        " version='1.0'><xsl:output method='html'/>",
+        "<xsl:template match='/page'><html><body><ul>",
+        "<xsl:for-each select='item'><li><xsl:value-of select='.'/></li>",
+        "</xsl:for-each></ul></body></html></xsl:template></xsl:stylesheet>"
+    );
+
+    /**
+     * Beginning of the page.
+     */
+    private static final String PROLOG = String.join(
+        "",
+        "<?xml version='1.0'?>",
+        "<?xml-stylesheet href='/page.xsl' type='text/xsl'?>",
+        "<page>"
+    );
+
+    /**
+     * Template.
+     */
+    private static final String VM = String.join(
+        "",
+        "<html><body><ul>",
+        "#foreach($item in $items)<li>$item</li>#end",
+        "</ul></body></html>"
+    );
+
+    /**
+     * Resolver of the stylesheet.
+     */
+    private final URIResolver resolver =
+        (href, base) -> new StreamSource(new StringReader(RsRenderBench.XSL));
+
+    /**
+     * Items.
+     */
+    private List<String> items;
+
+    /**
+     * XML of the page.
+     */
+    private String xml;
+
+    /**
+     * Text of the page.
+     */
+    private String text;
+
+    /**
+     * Make the page.
+     */
+    @Setup
+    public void setup() {
+        this.items = new ArrayList<>(RsRenderBench.ITEMS);
+        final StringBuilder page = new StringBuilder(
+            RsRenderBench.ITEMS * 40
+        ).append(RsRenderBench.PROLOG);
+        for (int idx = 0; idx < RsRenderBench.ITEMS; ++idx) {
+            final String item = String.format("item number %d", idx);
+            this.items.add(item);
+            page.append("<item>").append(item).append("</item>");
+        }
+        this.xml = page.append("</page>").toString();
+        this.text = String.join("\n", this.items);
+    }
+
+    /**
+     * Compress the page.
+     * @return Bytes read
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public long gzip() throws IOException {
+        return RsRenderBench.drain(new RsGzip(new RsText(this.text)).body());
+    }
+
+    /**
+     * Transform the page by XSL.
+     * @return Bytes read
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public long xslt() throws IOException {
+        return RsRenderBench.drain(
+            new RsXslt(new RsWithBody(this.xml), this.resolver).body()
+        );
+    }
+
+    /**
+     * Merge the page with Velocity.
+     * @return Bytes read
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public long velocity() throws IOException {
+        return RsRenderBench.drain(
+            new RsVelocity(
+                RsRenderBench.VM, new RsVelocityPair("items", this.items)
+            ).body()
+        );
+    }
+
+    /**
+     * Read the stream to the end.
+     * @param body Stream
+     * @return Bytes read
+     * @throws IOException If fails
+     */
+    private static long drain(final InputStream body) throws IOException {
+        final byte[] buf = new byte[8192];
+        long total = 0L;
+        try (InputStream input = body) {
+            while (true) {
+                final int len = input.read(buf);
+                if (len < 0) {
+                    break;
+                }
+                total += len;
+            }
+        }
+        return total;
+    }
+}
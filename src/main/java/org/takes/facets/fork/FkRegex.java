@@ -213,4 +213,12 @@ public final class FkRegex implements Fork {
         }
         return resp;
     }
+
+    /**
+     * The pattern, which {@link FkRouter} compiles into its trie.
+     * @return Pattern
+     */
+    Pattern regex() {
+        return new Unchecked<>(this.pattern).value();
+    }
 }
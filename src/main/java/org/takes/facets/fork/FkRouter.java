@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.fork;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.misc.Opt;
+import org.takes.rq.RqHref;
+
+/**
+ * Fork by many regular expressions, compiled into a trie.
+ *
+ * <p>Use it instead of a long list of {@link FkRegex} in
+ * {@link TkFork}, for example:
+ *
+ * <pre> Take take = new TkFork(
+ *   new FkRouter(
+ *     new FkRegex("/", new TkIndex()),
+ *     new FkRegex("/account/(\\d+)", new TkAccount()),
+ *     new FkRegex("/robots\\.txt", new TkRobots())
+ *   )
+ * );</pre>
+ *
+ * <p>{@link FkChain} asks every fork one by one, so a request that
+ * matches none of them runs every regular expression. This fork
+ * extracts the literal prefix of each pattern (the part before the first
+ * character with a special meaning, like {@code /account/} above) and
+ * puts all prefixes into a trie. A request walks the trie by its path
+ * just once, and only the forks whose prefixes match the path are asked,
+ * in their original order. Thus, the result is exactly the same as in
+ * {@link FkChain}, including groups in {@link RqRegex}, while a miss
+ * costs a few regular expressions at most.
+ *
+ * <p>Patterns with alternations ({@code |}), comments, canonical
+ * equivalence or Unicode case folding have no prefix and are always
+ * asked.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @see FkRegex
+ * @since 2.0
+ */
+@EqualsAndHashCode(of = "forks")
+public final class FkRouter implements Fork {
+
+    /**
+     * Characters which are literal in a pattern.
+     */
+    private static final String PLAIN = "/-_~%,;:=@!'&#";
+
+    /**
+     * Characters which make the previous one optional.
+     */
+    private static final String OPTIONAL = "?*{";
+
+    /**
+     * Flags that make characters mean more than themselves.
+     */
+    private static final int COMPLEX =
+        Pattern.COMMENTS | Pattern.CANON_EQ | Pattern.UNICODE_CASE;
+
+    /**
+     * Forks.
+     */
+    private final List<FkRegex> forks;
+
+    /**
+     * Trie of prefixes (lazy).
+     */
+    private final Scalar<RouteTrie> trie;
+
+    /**
+     * Ctor.
+     * @param frks Forks
+     */
+    public FkRouter(final FkRegex... frks) {
+        this(new ListOf<>(frks));
+    }
+
+    /**
+     * Ctor.
+     * @param frks Forks
+     */
+    public FkRouter(final List<FkRegex> frks) {
+        this.forks = new ListOf<>(frks);
+        this.trie = new Sticky<>(() -> FkRouter.compile(frks));
+    }
+
+    @Override
+    public Opt<Response> route(final Request req) throws Exception {
+        final BitSet candidates = new Unchecked<>(this.trie).value()
+            .candidates(new RqHref.Base(req).href().path());
+        Opt<Response> response = new Opt.Empty<>();
+        for (int idx = candidates.nextSetBit(0); idx >= 0;
+            idx = candidates.nextSetBit(idx + 1)) {
+            final Opt<Response> current = this.forks.get(idx).route(req);
+            if (current.has()) {
+                response = current;
+                break;
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Put prefixes of all forks into a trie.
+     * @param forks Forks
+     * @return Trie
+     */
+    private static RouteTrie compile(final List<FkRegex> forks) {
+        final RouteTrie trie = new RouteTrie();
+        for (int idx = 0; idx < forks.size(); ++idx) {
+            trie.with(FkRouter.prefix(forks.get(idx).regex()), idx);
+        }
+        return trie;
+    }
+
+    /**
+     * Literal prefix of the pattern, which every matching path starts with.
+     * @param ptn Pattern
+     * @return Prefix, maybe empty
+     */
+    private static String prefix(final Pattern ptn) {
+        final String regex = ptn.pattern();
+        final StringBuilder prefix = new StringBuilder(regex.length());
+        final boolean simple = (ptn.flags() & FkRouter.COMPLEX) == 0;
+        if (simple && (ptn.flags() & Pattern.LITERAL) != 0) {
+            prefix.append(regex);
+        } else if (simple && regex.indexOf('|') < 0) {
+            for (int idx = 0; idx < regex.length(); ++idx) {
+                final char chr = regex.charAt(idx);
+                if (!FkRouter.literal(chr) || idx + 1 < regex.length()
+                    && FkRouter.OPTIONAL.indexOf(regex.charAt(idx + 1)) >= 0) {
+                    break;
+                }
+                prefix.append(chr);
+            }
+        }
+        return prefix.toString();
+    }
+
+    /**
+     * Is it a character that only means itself in a pattern?
+     * @param chr The character
+     * @return TRUE if it is literal
+     */
+    private static boolean literal(final char chr) {
+        return Character.isLetterOrDigit(chr)
+            || FkRouter.PLAIN.indexOf(chr) >= 0;
+    }
+}
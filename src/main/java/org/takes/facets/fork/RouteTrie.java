@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.fork;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trie of literal path prefixes of routes, used by {@link FkRouter}.
+ *
+ * <p>Every route is added with its literal prefix and its position
+ * among all routes. Characters are compared in lower case, so
+ * the trie finds a superset of the routes that a case-insensitive
+ * regular expression would match.
+ *
+ * <p>The trie is filled once, by {@link FkRouter}, and never
+ * modified after that, so it is safe to read it from many threads.
+ *
+ * @since 2.0
+ */
+final class RouteTrie {
+
+    /**
+     * Children, by lower-cased characters.
+     */
+    private final Map<Character, RouteTrie> children;
+
+    /**
+     * Positions of routes, whose prefixes end here.
+     */
+    private final BitSet routes;
+
+    /**
+     * Ctor.
+     */
+    RouteTrie() {
+        this.children = new HashMap<>(0);
+        this.routes = new BitSet();
+    }
+
+    /**
+     * Add a route.
+     * @param prefix Literal prefix of its paths
+     * @param route Position of the route
+     * @return This trie
+     */
+    RouteTrie with(final CharSequence prefix, final int route) {
+        RouteTrie node = this;
+        for (int idx = 0; idx < prefix.length(); ++idx) {
+            node = node.children.computeIfAbsent(
+                Character.toLowerCase(prefix.charAt(idx)),
+                chr -> new RouteTrie()
+            );
+        }
+        node.routes.set(route);
+        return this;
+    }
+
+    /**
+     * Find all routes whose prefixes are prefixes of the path.
+     * @param path The path
+     * @return Positions of the routes
+     */
+    BitSet candidates(final CharSequence path) {
+        final BitSet found = new BitSet();
+        found.or(this.routes);
+        RouteTrie node = this;
+        for (int idx = 0; idx < path.length(); ++idx) {
+            final Character chr = Character.toLowerCase(path.charAt(idx));
+            if (!node.children.containsKey(chr)) {
+                break;
+            }
+            node = node.children.get(chr);
+            found.or(node.routes);
+        }
+        return found;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies, in microseconds.
+ *
+ * <p>Like in HdrHistogram, every power of two is split into eight
+ * buckets of the same width, so a quantile is known with an error of
+ * less than 12.5%, from one microsecond to about twelve days, in a few
+ * hundred counters. Every counter is a {@link LongAdder}, so threads
+ * don't wait for each other when they record.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class Latency {
+
+    /**
+     * Buckets in every power of two.
+     */
+    private static final int SUB = 8;
+
+    /**
+     * The largest power of two counted.
+     */
+    private static final int MAX = 40;
+
+    /**
+     * Counters, by bucket.
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * Sum of latencies, in nanoseconds.
+     */
+    private final LongAdder total;
+
+    /**
+     * Ctor.
+     */
+    Latency() {
+        this.buckets = Latency.counters((Latency.MAX - 2) * Latency.SUB);
+        this.total = new LongAdder();
+    }
+
+    /**
+     * Record one latency.
+     * @param nanos Latency, in nanoseconds
+     */
+    void record(final long nanos) {
+        this.buckets[this.index(TimeUnit.NANOSECONDS.toMicros(nanos))]
+            .increment();
+        this.total.add(nanos);
+    }
+
+    /**
+     * How many latencies were recorded.
+     * @return Count
+     */
+    long count() {
+        long count = 0L;
+        for (final LongAdder bucket : this.buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Sum of all latencies.
+     * @return Seconds
+     */
+    double sum() {
+        return (double) this.total.sum() / TimeUnit.SECONDS.toNanos(1L);
+    }
+
+    /**
+     * Latency which is not exceeded by the given share of requests.
+     * @param share From 0 to 1, like 0.99 for p99
+     * @return Seconds, the upper bound of its bucket, or 0 if empty
+     */
+    double quantile(final double share) {
+        final long[] counts = new long[this.buckets.length];
+        long count = 0L;
+        for (int idx = 0; idx < counts.length; ++idx) {
+            counts[idx] = this.buckets[idx].sum();
+            count += counts[idx];
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(share * count));
+        long seen = 0L;
+        int idx = 0;
+        while (idx < counts.length - 1 && seen + counts[idx] < rank) {
+            seen += counts[idx];
+            ++idx;
+        }
+        double seconds = 0.0d;
+        if (count > 0L) {
+            seconds = (double) Latency.ceiling(idx)
+                / TimeUnit.SECONDS.toMicros(1L);
+        }
+        return seconds;
+    }
+
+    /**
+     * Bucket of the latency.
+     * @param micros Latency, in microseconds
+     * @return Index of the bucket
+     */
+    private int index(final long micros) {
+        final long value = Math.max(0L, micros);
+        final int idx;
+        if (value < Latency.SUB) {
+            idx = (int) value;
+        } else {
+            final int exp = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+            idx = (exp - 2) * Latency.SUB
+                + (int) (value >>> exp - 3) - Latency.SUB;
+        }
+        return Math.min(idx, this.buckets.length - 1);
+    }
+
+    /**
+     * Make counters.
+     * @param size How many
+     * @return Counters
+     */
+    private static LongAdder[] counters(final int size) {
+        final LongAdder[] counters = new LongAdder[size];
+        for (int idx = 0; idx < size; ++idx) {
+            counters[idx] = new LongAdder();
+        }
+        return counters;
+    }
+
+    /**
+     * The smallest latency above the bucket.
+     * @param idx Index of the bucket
+     * @return Microseconds
+     */
+    private static long ceiling(final int idx) {
+        final long ceiling;
+        if (idx < Latency.SUB) {
+            ceiling = idx + 1L;
+        } else {
+            final int shift = idx / Latency.SUB - 1;
+            ceiling = (long) (Latency.SUB + idx % Latency.SUB + 1) << shift;
+        }
+        return ceiling;
+    }
+}
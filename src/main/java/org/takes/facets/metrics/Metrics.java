@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metrics of requests, by route.
+ *
+ * <p>Make one instance, give it to every {@link TkMetrics}, and show it
+ * by {@link TkPrometheus}:
+ *
+ * <pre> final Metrics metrics = new Metrics();
+ * new TkFork(
+ *   new FkRegex("/metrics", new TkPrometheus(metrics)),
+ *   new FkRegex("/user/.+", new TkMetrics(new TkUser(), metrics, "user")),
+ *   new FkRegex("/", new TkMetrics(new TkIndex(), metrics, "index"))
+ * );</pre>
+ *
+ * <p>Routes are not removed, so their names must be few, like patterns,
+ * not paths of requests.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+public final class Metrics {
+
+    /**
+     * Routes, by name.
+     */
+    private final Map<String, Route> routes;
+
+    /**
+     * Ctor.
+     */
+    public Metrics() {
+        this.routes = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Metrics of the route, made if they are absent.
+     * @param name Name of the route
+     * @return Metrics of the route
+     */
+    Route route(final String name) {
+        Route route = this.routes.get(name);
+        if (route == null) {
+            route = this.routes.computeIfAbsent(name, key -> new Route());
+        }
+        return route;
+    }
+
+    /**
+     * All routes, by name.
+     * @return Routes, sorted by name
+     */
+    SortedMap<String, Route> all() {
+        return new TreeMap<>(this.routes);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of one route, in {@link Metrics}.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class Route {
+
+    /**
+     * Classes of status, from 1xx to 5xx.
+     */
+    private static final int CLASSES = 5;
+
+    /**
+     * Finished requests, by class of status.
+     */
+    private final LongAdder[] statuses;
+
+    /**
+     * Requests in flight.
+     */
+    private final LongAdder flight;
+
+    /**
+     * Latencies of finished requests.
+     */
+    private final Latency histogram;
+
+    /**
+     * Ctor.
+     */
+    Route() {
+        this.statuses = Route.counters();
+        this.flight = new LongAdder();
+        this.histogram = new Latency();
+    }
+
+    /**
+     * A request has started.
+     */
+    void start() {
+        this.flight.increment();
+    }
+
+    /**
+     * The request has finished.
+     * @param status Status code of the response
+     * @param nanos How long it took, in nanoseconds
+     */
+    void finish(final int status, final long nanos) {
+        this.flight.decrement();
+        this.statuses[
+            Math.min(Math.max(status / 100, 1), Route.CLASSES) - 1
+        ].increment();
+        this.histogram.record(nanos);
+    }
+
+    /**
+     * How many requests have finished with the class of status.
+     * @param cls Class of status, from 1 to 5
+     * @return Count
+     */
+    long requests(final int cls) {
+        return this.statuses[cls - 1].sum();
+    }
+
+    /**
+     * How many requests are in flight.
+     * @return Count
+     */
+    long inflight() {
+        return this.flight.sum();
+    }
+
+    /**
+     * Latencies of finished requests.
+     * @return Histogram
+     */
+    Latency latency() {
+        return this.histogram;
+    }
+
+    /**
+     * Make counters.
+     * @return Counters, one for every class of status
+     */
+    private static LongAdder[] counters() {
+        final LongAdder[] counters = new LongAdder[Route.CLASSES];
+        for (int idx = 0; idx < Route.CLASSES; ++idx) {
+            counters[idx] = new LongAdder();
+        }
+        return counters;
+    }
+}
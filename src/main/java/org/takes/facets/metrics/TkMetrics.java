@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.metrics;
+
+import java.net.HttpURLConnection;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.takes.HttpException;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.Take;
+import org.takes.rs.ResponseOf;
+import org.takes.rs.RsStatus;
+import org.takes.tk.TkWrap;
+
+/**
+ * Take that counts requests and their latency in {@link Metrics}.
+ *
+ * <p>The request is counted as in flight while the take acts and the
+ * head of its response is made, since it may be lazy. Then, it is
+ * counted by the class of its status, like 2xx or 5xx, and its latency
+ * is recorded, as measured by {@link System#nanoTime()}. If the take
+ * throws {@link HttpException}, its code is the status, any other
+ * exception is counted as 5xx. The time of printing the body is not
+ * included.
+ *
+ * <pre> new TkMetrics(new TkIndex(), metrics, "index")</pre>
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class TkMetrics extends TkWrap {
+
+    /**
+     * Ctor.
+     * @param take Original take
+     * @param metrics Metrics to count requests in
+     */
+    public TkMetrics(final Take take, final Metrics metrics) {
+        this(take, metrics, "all");
+    }
+
+    /**
+     * Ctor.
+     * @param take Original take
+     * @param metrics Metrics to count requests in
+     * @param route Name of the route
+     */
+    public TkMetrics(final Take take, final Metrics metrics,
+        final String route) {
+        super(req -> TkMetrics.measured(take, req, metrics.route(route)));
+    }
+
+    /**
+     * Response of the take, counted.
+     * @param take Take
+     * @param req Request
+     * @param route Metrics of the route
+     * @return Response, with its head made
+     * @throws Exception If fails
+     */
+    private static Response measured(final Take take, final Request req,
+        final Route route) throws Exception {
+        route.start();
+        final long start = System.nanoTime();
+        int status = HttpURLConnection.HTTP_INTERNAL_ERROR;
+        try {
+            final Response origin = take.act(req);
+            final Iterable<String> head = origin.head();
+            final Response response = new ResponseOf(
+                () -> head, origin::body
+            );
+            status = new RsStatus.Base(response).status();
+            return response;
+        } catch (final HttpException ex) {
+            status = ex.code();
+            throw ex;
+        } finally {
+            route.finish(status, System.nanoTime() - start);
+        }
+    }
+}
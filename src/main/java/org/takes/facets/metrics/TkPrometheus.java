@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.metrics;
+
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithType;
+import org.takes.tk.TkWrap;
+
+/**
+ * Take that shows {@link Metrics} in the text format of Prometheus.
+ *
+ * <p>There are three metrics, with the {@code route} label:
+ * {@code takes_requests_total} counter, also with the {@code status}
+ * label, like {@code 2xx}, {@code takes_requests_in_flight} gauge, and
+ * {@code takes_request_duration_seconds} summary with 0.5, 0.9, 0.99
+ * and 0.999 quantiles:
+ *
+ * <pre> new FkRegex("/metrics", new TkPrometheus(metrics))</pre>
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class TkPrometheus extends TkWrap {
+
+    /**
+     * Quantiles of latency.
+     */
+    private static final String[] QUANTILES = {"0.5", "0.9", "0.99", "0.999"};
+
+    /**
+     * Ctor.
+     * @param metrics Metrics to show
+     */
+    public TkPrometheus(final Metrics metrics) {
+        super(
+            req -> new RsWithType(
+                new RsText(TkPrometheus.text(metrics)),
+                "text/plain; version=0.0.4; charset=utf-8"
+            )
+        );
+    }
+
+    /**
+     * Metrics, as text.
+     * @param metrics Metrics
+     * @return Text
+     */
+    private static String text(final Metrics metrics) {
+        final Map<String, Route> routes = metrics.all();
+        final StringBuilder text = new StringBuilder(256);
+        TkPrometheus.describe(
+            text, "takes_requests_total", "counter",
+            "Finished requests, by route and class of status."
+        );
+        for (final Map.Entry<String, Route> route : routes.entrySet()) {
+            for (int cls = 1; cls <= 5; ++cls) {
+                TkPrometheus.label(
+                    text, "takes_requests_total", route.getKey()
+                ).append(",status=\"").append(cls).append("xx\"} ")
+                    .append(route.getValue().requests(cls)).append('\n');
+            }
+        }
+        TkPrometheus.describe(
+            text, "takes_requests_in_flight", "gauge",
+            "Requests being processed, by route."
+        );
+        for (final Map.Entry<String, Route> route : routes.entrySet()) {
+            TkPrometheus.label(
+                text, "takes_requests_in_flight", route.getKey()
+            ).append("} ").append(route.getValue().inflight()).append('\n');
+        }
+        TkPrometheus.describe(
+            text, "takes_request_duration_seconds", "summary",
+            "Latency of finished requests, by route."
+        );
+        for (final Map.Entry<String, Route> route : routes.entrySet()) {
+            TkPrometheus.latency(text, route.getKey(), route.getValue());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Print the latency of the route.
+     * @param text Where to print
+     * @param name Name of the route
+     * @param route Route
+     */
+    private static void latency(final StringBuilder text, final String name,
+        final Route route) {
+        final Latency latency = route.latency();
+        for (final String quantile : TkPrometheus.QUANTILES) {
+            TkPrometheus.label(
+                text, "takes_request_duration_seconds", name
+            ).append(",quantile=\"").append(quantile).append("\"} ")
+                .append(latency.quantile(Double.parseDouble(quantile)))
+                .append('\n');
+        }
+        TkPrometheus.label(
+            text, "takes_request_duration_seconds_sum", name
+        ).append("} ").append(latency.sum()).append('\n');
+        TkPrometheus.label(
+            text, "takes_request_duration_seconds_count", name
+        ).append("} ").append(latency.count()).append('\n');
+    }
+
+    /**
+     * Print help and type of the metric.
+     * @param text Where to print
+     * @param metric Name of the metric
+     * @param type Type of the metric
+     * @param help Description of the metric
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void describe(final StringBuilder text,
+        final String metric, final String type, final String help) {
+        text.append("# HELP ").append(metric).append(' ').append(help)
+            .append("\n# TYPE ").append(metric).append(' ').append(type)
+            .append('\n');
+    }
+
+    /**
+     * Print the metric with the route label, escaped, leaving the labels
+     * open.
+     * @param text Where to print
+     * @param metric Name of the metric
+     * @param route Name of the route
+     * @return The same text
+     */
+    private static StringBuilder label(final StringBuilder text,
+        final String metric, final String route) {
+        text.append(metric).append("{route=\"");
+        for (final char chr : route.toCharArray()) {
+            if (chr == '\\' || chr == '"') {
+                text.append('\\').append(chr);
+            } else if (chr == '\n') {
+                text.append("\\n");
+            } else {
+                text.append(chr);
+            }
+        }
+        return text.append('"');
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Metrics of requests.
+ *
+ * <p>{@link org.takes.facets.metrics.TkMetrics} counts requests by route
+ * and class of status, the requests in flight, and their latency, in
+ * {@link org.takes.facets.metrics.Metrics}, without locks.
+ * {@link org.takes.facets.metrics.TkPrometheus} shows them in the text
+ * format of Prometheus, so they may be scraped without an agent.
+ *
+ * @since 2.0
+ */
+package org.takes.facets.metrics;
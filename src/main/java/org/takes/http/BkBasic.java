@@ -4,12 +4,15 @@
  */
 package org.takes.http;
 
-import java.io.BufferedOutputStream;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.Socket;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Locale;
 import lombok.EqualsAndHashCode;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.InputStreamOf;
@@ -19,9 +22,13 @@ import org.takes.HttpException;
 import org.takes.Request;
 import org.takes.Response;
 import org.takes.Take;
+import org.takes.rq.HeadOnce;
+import org.takes.rq.RequestOf;
 import org.takes.rq.RqLive;
 import org.takes.rq.RqWithHeaders;
+import org.takes.rs.RsChunked;
 import org.takes.rs.RsPrint;
+import org.takes.rs.RsStatus;
 import org.takes.rs.RsText;
 import org.takes.rs.RsWithStatus;
 
@@ -36,15 +43,25 @@ import org.takes.rs.RsWithStatus;
  *
  * <p>Key features:
  * <ul>
- * <li>Handles keep-alive connections by processing multiple requests
- * on the same socket</li>
+ * <li>Handles persistent connections by processing multiple requests,
+ * pipelined or awaited for an idle time, on the same socket,
+ * see {@link KeepAlive}</li>
  * <li>Automatically adds socket information headers (local/remote address
  * and port)</li>
+ * <li>Gives the take a request with a head built only once, so its
+ * headers are parsed only once too</li>
+ * <li>Sends a body of unknown length in chunks, see {@link RsChunked}</li>
+ * <li>Buffers the output of the socket and copies bodies with buffers
+ *  reused by the thread, see {@link org.takes.misc.Buffers}</li>
+ * <li>Sends a file body into the channel of the socket with zero copy,
+ *  see {@link RsPrint#print(OutputStream, WritableByteChannel)}</li>
  * <li>Provides comprehensive exception handling with appropriate HTTP
  * status codes</li>
  * <li>Handles {@link HttpException} with custom status codes</li>
  * <li>Maps {@link IllegalArgumentException} to HTTP 400 Bad Request</li>
  * <li>Maps all other exceptions to HTTP 500 Internal Server Error</li>
+ * <li>Tells a {@link Timing} how long every phase of every exchange
+ * took</li>
  * </ul>
  *
  * <p>The class is immutable and thread-safe.
@@ -52,6 +69,7 @@ import org.takes.rs.RsWithStatus;
  * @since 0.1
  */
 @EqualsAndHashCode
+@SuppressWarnings("PMD.DataClass")
 public final class BkBasic implements Back {
 
     /**
@@ -84,66 +102,157 @@ public final class BkBasic implements Back {
      */
     private final Take take;
 
+    /**
+     * Listener of the timing of exchanges.
+     */
+    private final Timing timing;
+
+    /**
+     * Rules of persistent connections.
+     */
+    private final KeepAlive alive;
+
     /**
      * Ctor.
      * @param tks Take
      */
     public BkBasic(final Take tks) {
+        this(tks, Timing.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param tks Take
+     * @param tmg Listener of the timing of exchanges
+     * @since 2.0
+     */
+    public BkBasic(final Take tks, final Timing tmg) {
+        this(tks, tmg, new KeepAlive());
+    }
+
+    /**
+     * Ctor.
+     * @param tks Take
+     * @param kpa Rules of persistent connections
+     * @since 2.0
+     */
+    public BkBasic(final Take tks, final KeepAlive kpa) {
+        this(tks, Timing.NONE, kpa);
+    }
+
+    /**
+     * Ctor.
+     * @param tks Take
+     * @param tmg Listener of the timing of exchanges
+     * @param kpa Rules of persistent connections
+     * @since 2.0
+     */
+    public BkBasic(final Take tks, final Timing tmg, final KeepAlive kpa) {
         this.take = tks;
+        this.timing = tmg;
+        this.alive = kpa;
     }
 
     @Override
     public void accept(final Socket socket) throws IOException {
+        final Watch watch = new Watch();
         try (
-            InputStream input = socket.getInputStream();
-            BufferedOutputStream output = new BufferedOutputStream(
-                socket.getOutputStream()
+            InputStream input = new BufferedInputStream(
+                socket.getInputStream()
+            );
+            OutputStream output = new PooledOutput(
+                watch.output(socket.getOutputStream(), Watch.FIRST)
             )
         ) {
-            while (this.exchange(input, socket, output)) {
-                if (input.available() <= 0) {
+            while (this.exchange(input, socket, output, watch)) {
+                if (!this.alive.await(socket, input)) {
                     break;
                 }
             }
         }
     }
 
-    private boolean exchange(final InputStream input, final Socket socket,
-        final OutputStream output) throws IOException {
-        boolean reusable = true;
+    /**
+     * Read one request from the input, process it and print the response.
+     *
+     * <p>File bodies go straight into the channel of the socket, with
+     * zero copy, only when {@code socket.getChannel()} is not NULL,
+     * that is, when the socket was accepted by a
+     * {@link java.nio.channels.ServerSocketChannel}, like the one
+     * {@link FtBasic} opens by itself. A socket from a plain
+     * {@link java.net.ServerSocket}, given to {@link FtBasic} in its
+     * constructor, has no channel, and file bodies are written into
+     * the output stream.
+     * The phases of the exchange are marked by the watch, which must also
+     * watch what goes from the output stream into the socket, and are
+     * reported to the listener of timing at the end.
+     *
+     * <p>The take reads the body of the request only as far as its
+     * {@code Content-Length} says, and what it doesn't read is read away
+     * afterwards, so the input stream is positioned at the start of the
+     * next request, if the connection is persistent.
+     *
+     * @param input Input stream, positioned at the start of a request
+     * @param socket The socket the request came from
+     * @param output Output stream to print the response into
+     * @param watch Watch of the connection
+     * @return TRUE if the connection may be used for the next request
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    boolean exchange(final InputStream input, final Socket socket,
+        final OutputStream output, final Watch watch) throws IOException {
+        watch.start();
+        boolean reusable;
+        final WritableByteChannel channel;
+        if (socket.getChannel() == null) {
+            channel = Channels.newChannel(output);
+        } else {
+            channel = socket.getChannel();
+        }
         try {
-            this.print(
+            final Request live = new HeadOnce(new RqLive(input));
+            final BoundedBody body = new BoundedBody(input, live);
+            final Request req = new HeadOnce(
                 BkBasic.addSocketHeaders(
-                    new RqLive(input),
-                    socket
-                ),
-                output
+                    new RequestOf(live::head, () -> body), socket
+                )
+            );
+            watch.mark(Watch.PARSED);
+            final Response res = this.response(req);
+            watch.mark(Watch.ACTED);
+            reusable = this.alive.persistent(req, res, watch.exchanges());
+            final RsPrint print = new RsPrint(
+                KeepAlive.announced(BkBasic.framed(req, res), reusable)
             );
+            if (BkBasic.hollow(req, res)) {
+                print.printHead(watch.output(output, Watch.RENDERED));
+                res.body().close();
+            } else {
+                print.print(watch.output(output, Watch.RENDERED), channel);
+            }
+            reusable = reusable && body.drain(BkBasic.LINGER);
         } catch (final HttpException ex) {
-            new RsPrint(BkBasic.failure(ex, ex.code())).print(output);
+            new RsPrint(
+                KeepAlive.announced(BkBasic.failure(ex, ex.code()), false)
+            ).print(output);
             output.flush();
-            BkBasic.linger(input);
+            KeepAlive.linger(input, BkBasic.LINGER);
             reusable = false;
         }
         output.flush();
+        this.timing.exchanged(watch.finish());
         return reusable;
     }
 
-    private static void linger(final InputStream input) throws IOException {
-        final byte[] buf = new byte[8192];
-        long total = 0L;
-        while (total < BkBasic.LINGER && input.available() > 0) {
-            final int read = input.read(buf);
-            if (read < 0) {
-                break;
-            }
-            total += read;
-        }
-    }
-
+    /**
+     * Process the request.
+     * @param req Request
+     * @return Response of the take, or of its failure
+     */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    private void print(final Request req, final OutputStream output)
-        throws IOException {
+    private Response response(final Request req) {
         Response handled;
         try {
             handled = this.take.act(req);
@@ -161,7 +270,87 @@ public final class BkBasic implements Back {
                 HttpURLConnection.HTTP_INTERNAL_ERROR
             );
         }
-        new RsPrint(handled).print(output);
+        return handled;
+    }
+
+    /**
+     * Make sure the client knows where the body of the response ends.
+     *
+     * <p>If the response has a body, but neither {@code Content-Length}
+     * nor {@code Transfer-Encoding}, it is sent in chunks, so that
+     * the connection may be used for the next request.
+     *
+     * @param req Request
+     * @param res Response
+     * @return Response to print
+     * @throws IOException If fails
+     */
+    private static Response framed(final Request req, final Response res)
+        throws IOException {
+        final Response framed;
+        if (BkBasic.bodiless(req, res) || BkBasic.sized(res)) {
+            framed = res;
+        } else {
+            framed = new RsChunked(res);
+        }
+        return framed;
+    }
+
+    /**
+     * Can't the response be sent in chunks?
+     *
+     * <p>Responses to HEAD requests, informational, 204 and 304 responses
+     * have no body at all, while HTTP/1.0 clients don't know chunks.
+     *
+     * @param req Request
+     * @param res Response
+     * @return TRUE if the response must be printed as is
+     * @throws IOException If fails
+     */
+    private static boolean bodiless(final Request req, final Response res)
+        throws IOException {
+        return BkBasic.hollow(req, res)
+            || req.head().iterator().next().endsWith(" HTTP/1.0");
+    }
+
+    /**
+     * Must the response go without its body?
+     *
+     * <p>The body of a response to {@code HEAD}, or with status 1xx,
+     * 204 or 304, is never sent, since the client doesn't expect it and
+     * would take it for the next response on the connection.
+     *
+     * @param req Request
+     * @param res Response
+     * @return TRUE if the head must be sent alone
+     * @throws IOException If fails
+     */
+    private static boolean hollow(final Request req, final Response res)
+        throws IOException {
+        final int code = new RsStatus.Base(res).status();
+        final boolean empty = code < HttpURLConnection.HTTP_OK
+            || code == HttpURLConnection.HTTP_NO_CONTENT
+            || code == HttpURLConnection.HTTP_NOT_MODIFIED;
+        return empty || req.head().iterator().next().startsWith("HEAD ");
+    }
+
+    /**
+     * Does the response tell the length of its body?
+     * @param res Response
+     * @return TRUE if it has Content-Length or Transfer-Encoding
+     * @throws IOException If fails
+     */
+    private static boolean sized(final Response res) throws IOException {
+        boolean sized = false;
+        for (final String header : res.head()) {
+            final String lower = header.toLowerCase(Locale.ENGLISH);
+            if (lower.startsWith("content-length:")
+                || lower.startsWith("transfer-encoding:")) {
+                sized = true;
+                break;
+            }
+        }
+        return sized;
     }
 
     private static Response failure(final Throwable err, final int code) {
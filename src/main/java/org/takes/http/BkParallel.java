@@ -5,11 +5,19 @@
 package org.takes.http;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.EqualsAndHashCode;
+import org.takes.rs.RsPrint;
+import org.takes.rs.RsWithHeaders;
+import org.takes.rs.RsWithStatus;
 
 /**
  * Parallel back-end decorator.
@@ -24,15 +32,27 @@ import lombok.EqualsAndHashCode;
  * available processors (using bit shift for efficiency). This heuristic
  * provides good performance for I/O-bound HTTP request processing.
  *
+ * <p>The queue of sockets waiting for a free thread may be bounded.
+ * When it's full (or the executor rejects the socket for any other
+ * reason), the socket is not queued: a minimal
+ * {@code 503 Service Unavailable} response with a {@code Retry-After}
+ * header is printed right into it and it is closed. The amount of such
+ * shed connections is available through {@link #shed()}, for example,
+ * to report it to a load balancer:
+ *
+ * <pre> final BkParallel back = new BkParallel(new BkBasic(take), 16, 256);
+ * new FtBasic(back, 8080).start(Exit.NEVER);</pre>
+ *
  * <p>Key features:
  * <ul>
  * <li>Executes each socket connection in a separate thread</li>
  * <li>Uses custom thread factory with meaningful thread names</li>
- * <li>Configurable thread pool size</li>
+ * <li>Configurable thread pool size and queue capacity</li>
+ * <li>Sheds connections with HTTP 503 when overloaded</li>
  * <li>Wraps exceptions as {@link IllegalStateException}</li>
  * </ul>
  *
- * <p>The class is immutable and thread-safe.
+ * <p>The class is thread-safe.
  *
  * @since 0.1
  */
@@ -45,6 +65,16 @@ public final class BkParallel extends BkWrap {
     private static final int DEFAULT_THREADS =
         Runtime.getRuntime().availableProcessors() << 2;
 
+    /**
+     * Header suggesting the client when to try again.
+     */
+    private static final String RETRY = "Retry-After: 1";
+
+    /**
+     * Amount of connections shed so far.
+     */
+    private final LongAdder rejected;
+
     /**
      * Ctor.
      * @param back Original back
@@ -59,12 +89,24 @@ public final class BkParallel extends BkWrap {
      * @param threads Threads total
      */
     public BkParallel(final Back back, final int threads) {
+        this(back, threads, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param back Original back
+     * @param threads Threads total
+     * @param capacity Maximum of sockets waiting for a free thread
+     * @since 2.0
+     */
+    public BkParallel(final Back back, final int threads,
+        final int capacity) {
         this(
             back,
             new ThreadPoolExecutor(
                 threads, threads, 0L,
                 TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<>(),
+                new LinkedBlockingQueue<>(capacity),
                 new Threads()
             )
         );
@@ -77,19 +119,73 @@ public final class BkParallel extends BkWrap {
      * @since 0.9
      */
     public BkParallel(final Back back, final ExecutorService svc) {
+        this(back, svc, new LongAdder());
+    }
+
+    /**
+     * Ctor.
+     * @param back Original back
+     * @param svc Executor service
+     * @param shed Counter of shed connections
+     */
+    private BkParallel(final Back back, final ExecutorService svc,
+        final LongAdder shed) {
         super(
-            socket -> svc.execute(
-                () -> {
-                    try {
-                        back.accept(socket);
-                    } catch (final IOException ex) {
-                        throw new IllegalStateException(
-                            "Socket wasn't accepted by the back",
-                            ex
-                        );
-                    }
+            socket -> {
+                try {
+                    svc.execute(
+                        () -> {
+                            try {
+                                back.accept(socket);
+                            } catch (final IOException ex) {
+                                throw new IllegalStateException(
+                                    "Socket wasn't accepted by the back",
+                                    ex
+                                );
+                            }
+                        }
+                    );
+                } catch (final RejectedExecutionException ex) {
+                    shed.increment();
+                    BkParallel.reject(socket);
                 }
-            )
+            }
         );
+        this.rejected = shed;
+    }
+
+    /**
+     * Amount of connections shed because of overload, so far.
+     * @return Total
+     * @since 2.0
+     */
+    public long shed() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * Print 503 into the socket and close it.
+     *
+     * <p>It runs in the thread that accepts connections, so a client
+     * that is already gone must not break it: the failure is ignored.
+     *
+     * @param socket The socket
+     */
+    private static void reject(final Socket socket) {
+        try (
+            Socket closing = socket;
+            OutputStream output = closing.getOutputStream()
+        ) {
+            new RsPrint(
+                new RsWithHeaders(
+                    new RsWithStatus(HttpURLConnection.HTTP_UNAVAILABLE),
+                    BkParallel.RETRY,
+                    "Content-Length: 0",
+                    "Connection: close"
+                )
+            ).print(output);
+            output.flush();
+        } catch (final IOException ignored) {
+        }
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Back-end decorator, which runs each socket on a virtual thread.
+ *
+ * <p>Unlike {@link BkParallel}, there is no fixed pool of platform
+ * threads here: every accepted socket gets its own JDK virtual thread,
+ * so a {@link org.takes.Take} blocked on JDBC or on an upstream call
+ * (like {@link org.takes.tk.TkProxy}) doesn't hold a scarce thread and
+ * doesn't make other sockets wait in a queue.
+ *
+ * <p>The amount of sockets processed at the same time is capped. When
+ * the cap is reached, {@link #accept(java.net.Socket)} blocks until one
+ * of the running sockets is done, which stops the front from accepting
+ * new connections, instead of piling them up in memory.
+ *
+ * <p>Virtual threads require Java 21 or later at runtime, on older JVMs
+ * {@link IllegalStateException} is thrown when the first socket arrives.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@EqualsAndHashCode(callSuper = true)
+public final class BkVirtual extends BkWrap {
+
+    /**
+     * Default maximum of sockets processed at the same time.
+     */
+    private static final int DEFAULT_MAX = 10_000;
+
+    /**
+     * Ctor.
+     * @param back Original back
+     */
+    public BkVirtual(final Back back) {
+        this(back, BkVirtual.DEFAULT_MAX);
+    }
+
+    /**
+     * Ctor.
+     * @param back Original back
+     * @param max Maximum of sockets processed at the same time
+     */
+    public BkVirtual(final Back back, final int max) {
+        this(back, new Semaphore(max), new VirtualThreads());
+    }
+
+    /**
+     * Ctor.
+     * @param back Original back
+     * @param slots Slots for sockets processed at the same time
+     * @param threads Factory of threads
+     */
+    BkVirtual(final Back back, final Semaphore slots,
+        final ThreadFactory threads) {
+        super(
+            socket -> {
+                try {
+                    slots.acquire();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(
+                        "Interrupted while waiting for a free slot", ex
+                    );
+                }
+                boolean started = false;
+                try {
+                    threads.newThread(
+                        () -> {
+                            try {
+                                back.accept(socket);
+                            } catch (final IOException ex) {
+                                throw new IllegalStateException(
+                                    "Socket wasn't accepted by the back",
+                                    ex
+                                );
+                            } finally {
+                                slots.release();
+                            }
+                        }
+                    ).start();
+                    started = true;
+                } finally {
+                    if (!started) {
+                        slots.release();
+                    }
+                }
+            }
+        );
+    }
+}
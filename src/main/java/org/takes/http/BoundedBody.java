@@ -0,0 +1,178 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.Locale;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+import org.takes.HttpException;
+import org.takes.Request;
+import org.takes.misc.Buffers;
+
+/**
+ * Body of a request on a persistent connection.
+ *
+ * <p>The body ends where its {@code Content-Length} says, so that
+ * the next request on the connection is not read by the take. Without
+ * {@code Content-Length} the body is empty, unless the request has
+ * {@code Transfer-Encoding}; then the body is the rest of the
+ * connection, which is not used for the next request. Closing
+ * the body doesn't close the connection.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class BoundedBody extends InputStream {
+
+    /**
+     * The connection.
+     */
+    private final InputStream origin;
+
+    /**
+     * How many bytes of the body are not read yet, or -1 if unknown.
+     */
+    private long remaining;
+
+    /**
+     * Ctor.
+     * @param input Input stream of the connection, right after the head
+     * @param req Request, which tells the length of its body
+     * @throws IOException If the length is not valid
+     */
+    BoundedBody(final InputStream input, final Request req)
+        throws IOException {
+        super();
+        this.origin = input;
+        this.remaining = BoundedBody.length(req);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data;
+        if (this.remaining == 0L) {
+            data = -1;
+        } else {
+            data = this.origin.read();
+            if (data >= 0 && this.remaining > 0L) {
+                --this.remaining;
+            }
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int read;
+        if (this.remaining == 0L) {
+            read = -1;
+        } else if (len == 0) {
+            read = 0;
+        } else {
+            int max = len;
+            if (this.remaining > 0L) {
+                max = (int) Math.min(len, this.remaining);
+            }
+            read = this.origin.read(buf, off, max);
+            if (read > 0 && this.remaining > 0L) {
+                this.remaining -= read;
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        int available = this.origin.available();
+        if (this.remaining >= 0L) {
+            available = (int) Math.min(available, this.remaining);
+        }
+        return available;
+    }
+
+    /**
+     * Read away what the take didn't read.
+     * @param max Maximum of bytes to read
+     * @return TRUE if the body is read to its end
+     * @throws IOException If fails
+     */
+    boolean drain(final long max) throws IOException {
+        final Buffers buffers = new Buffers();
+        final byte[] buf = buffers.take();
+        long left = max;
+        try {
+            while (this.remaining > 0L && left > 0L) {
+                final long wanted = Math.min(left, this.remaining);
+                final int read = this.origin.read(
+                    buf, 0, (int) Math.min(buf.length, wanted)
+                );
+                if (read < 0) {
+                    break;
+                }
+                this.remaining -= read;
+                left -= read;
+            }
+        } finally {
+            buffers.give(buf);
+        }
+        return this.remaining == 0L;
+    }
+
+    /**
+     * Length of the body.
+     * @param req Request
+     * @return Bytes, or -1 if unknown
+     * @throws IOException If the length is not valid
+     */
+    private static long length(final Request req) throws IOException {
+        long length = 0L;
+        for (final String header : req.head()) {
+            final String lower = header.toLowerCase(Locale.ENGLISH);
+            if (lower.startsWith("transfer-encoding:")) {
+                length = -1L;
+                break;
+            }
+            if (lower.startsWith("content-length:")) {
+                length = BoundedBody.parsed(header.substring(15).trim());
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Parse the value of {@code Content-Length}.
+     * @param value Value
+     * @return Bytes
+     * @throws HttpException If it is not valid
+     */
+    private static long parsed(final String value) throws HttpException {
+        final long length;
+        try {
+            length = Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            throw new HttpException(
+                HttpURLConnection.HTTP_BAD_REQUEST,
+                new UncheckedText(
+                    new FormattedText("Invalid Content-Length: %s", value)
+                ).asString(),
+                ex
+            );
+        }
+        if (length < 0L) {
+            throw new HttpException(
+                HttpURLConnection.HTTP_BAD_REQUEST,
+                new UncheckedText(
+                    new FormattedText("Negative Content-Length: %s", value)
+                ).asString()
+            );
+        }
+        return length;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import lombok.EqualsAndHashCode;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Timing of one exchange of a request and a response in {@link BkBasic}.
+ *
+ * <p>All times are in nanoseconds, as measured by
+ * {@link System#nanoTime()}. The exchange starts when {@link BkBasic}
+ * starts to read the head of the request, so the parsing includes
+ * the time the head travels over the network. If a phase didn't
+ * happen, for example since the request was broken, it took no time.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@EqualsAndHashCode
+public final class Exchange {
+
+    /**
+     * Moments of the phases, see {@link Watch}.
+     */
+    private final long[] marks;
+
+    /**
+     * Ctor.
+     * @param moments Moments of the phases, see {@link Watch}
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Exchange(final long... moments) {
+        this.marks = moments;
+    }
+
+    /**
+     * How long the head of the request was read and parsed.
+     * @return Nanoseconds
+     */
+    public long parse() {
+        return this.between(Watch.STARTED, Watch.PARSED);
+    }
+
+    /**
+     * How long the take acted.
+     * @return Nanoseconds
+     */
+    public long act() {
+        return this.between(Watch.PARSED, Watch.ACTED);
+    }
+
+    /**
+     * How long the head of the response was made and printed, including
+     * the lambdas of a lazy head, like in
+     * {@link org.takes.rs.ResponseOf}.
+     * @return Nanoseconds
+     */
+    public long render() {
+        return this.between(Watch.ACTED, Watch.RENDERED);
+    }
+
+    /**
+     * How long it took from the start until the first byte of the
+     * response went into the socket.
+     * @return Nanoseconds
+     */
+    public long firstByte() {
+        return this.between(Watch.STARTED, Watch.FIRST);
+    }
+
+    /**
+     * How long it took from the first byte of the response until the
+     * last one went into the socket, which is long if the body is made
+     * while it is printed, or the client is slow.
+     * @return Nanoseconds
+     */
+    public long body() {
+        return this.between(Watch.FIRST, Watch.DONE);
+    }
+
+    /**
+     * How long the entire exchange took.
+     * @return Nanoseconds
+     */
+    public long total() {
+        return this.between(Watch.STARTED, Watch.DONE);
+    }
+
+    @Override
+    public String toString() {
+        return new UncheckedText(
+            new FormattedText(
+                "parse=%dns act=%dns render=%dns first-byte=%dns body=%dns",
+                this.parse(), this.act(), this.render(),
+                this.firstByte(), this.body()
+            )
+        ).asString();
+    }
+
+    /**
+     * Time between two phases.
+     * @param from The earlier phase
+     * @param till The later phase
+     * @return Nanoseconds
+     */
+    private long between(final int from, final int till) {
+        return this.marks[till] - this.marks[from];
+    }
+}
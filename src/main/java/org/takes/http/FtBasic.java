@@ -5,8 +5,10 @@
 package org.takes.http;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.SocketTimeoutException;
+import java.nio.channels.ServerSocketChannel;
 import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import org.takes.Take;
@@ -18,6 +20,10 @@ import org.takes.Take;
  * and dispatches them to a back-end for processing. It runs a loop
  * that continuously accepts connections until the exit condition is met.
  *
+ * <p>When the front opens the port itself, the server socket belongs to
+ * a {@link ServerSocketChannel}, so that {@link BkBasic} can send files
+ * into the channels of accepted sockets with zero copy.
+ *
  * <p>The class is immutable and thread-safe.
  *
  * @since 0.1
@@ -62,7 +68,11 @@ public final class FtBasic implements Front {
      * @throws IOException If fails
      */
     public FtBasic(final Back that, final int port) throws IOException {
-        this(that, new ServerSocket(port));
+        this(
+            that,
+            ServerSocketChannel.open().bind(new InetSocketAddress(port))
+                .socket()
+        );
     }
 
     /**
@@ -5,6 +5,9 @@
 package org.takes.http;
 
 import java.io.IOException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import org.cactoos.list.ListOf;
 import org.takes.Take;
@@ -29,6 +32,26 @@ import org.takes.rq.RqWithHeader;
  * work in the foreground. The server will be started at a random TCP
  * port and its number will be saved to the {@code /tmp/port.txt} file.</p>
  *
+ * <p>With the {@code --nio} option the server is started as {@link FtNio},
+ * which doesn't hold a thread per idle connection; the {@code --threads}
+ * option then defines the amount of workers running the take, while
+ * {@code --max-latency} is not supported.</p>
+ *
+ * <p>With {@code --threads=virtual} every connection is processed
+ * on a JDK virtual thread (Java 21+ is required), see {@link BkVirtual};
+ * at most {@code --max-connections} of them (10000 by default) run at
+ * the same time. Together with {@code --nio}, at most
+ * {@code --max-connections} requests run on virtual threads at the same
+ * time, while the rest wait in the queue of {@link FtNio}.</p>
+ *
+ * <p>With {@code --queue=N} no more than N connections wait for a free
+ * thread; the rest are answered with {@code 503 Service Unavailable}
+ * right away, see {@link BkParallel}.</p>
+ *
+ * <p>With {@code --keep-alive=N} a thread waits up to N milliseconds
+ * for the next request on a persistent connection, see {@link KeepAlive};
+ * by default, it serves only the requests that are already there.</p>
+ *
  * <p>The class is immutable and thread-safe.
  *
  * @since 0.1
@@ -77,19 +100,33 @@ public final class FtCli implements Front {
         } else {
             tks = this.take;
         }
-        final BkTimeable timeable = new BkTimeable(
-            new BkSafe(new BkBasic(tks)),
-            this.options.maxLatency()
-        );
-        timeable.setDaemon(true);
-        timeable.start();
-        final Front front = new FtBasic(
-            new BkParallel(
-                timeable,
-                this.options.threads()
-            ),
-            this.options.socket()
-        );
+        final Front front;
+        if (this.options.nio()) {
+            front = this.nio(tks);
+        } else {
+            final BkTimeable timeable = new BkTimeable(
+                new BkSafe(
+                    new BkBasic(tks, new KeepAlive(this.options.keepAlive()))
+                ),
+                this.options.maxLatency()
+            );
+            timeable.setDaemon(true);
+            timeable.start();
+            final Back back;
+            if (this.options.virtual()) {
+                back = new BkVirtual(
+                    timeable,
+                    this.options.maxConnections()
+                );
+            } else {
+                back = new BkParallel(
+                    timeable,
+                    this.options.threads(),
+                    this.options.queue()
+                );
+            }
+            front = new FtBasic(back, this.options.socket());
+        }
         if (this.options.isDaemon()) {
             final Thread thread = new Thread(
                 () -> {
@@ -110,6 +147,27 @@ public final class FtCli implements Front {
         }
     }
 
+    @SuppressWarnings("PMD.CloseResource")
+    private Front nio(final Take tks) throws IOException {
+        final Front front;
+        if (this.options.virtual()) {
+            final ThreadPoolExecutor workers = new ThreadPoolExecutor(
+                this.options.maxConnections(),
+                this.options.maxConnections(),
+                1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                new VirtualThreads()
+            );
+            workers.allowCoreThreadTimeOut(true);
+            front = new FtNio(tks, this.options.channel(), workers);
+        } else {
+            front = new FtNio(
+                tks, this.options.channel(), this.options.threads()
+            );
+        }
+        return front;
+    }
+
     private Exit exit(final Exit exit) {
         return new Exit.Or(
             exit,
@@ -0,0 +1,310 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import org.takes.Take;
+import org.takes.misc.Opt;
+
+/**
+ * Non-blocking front, on top of NIO selector.
+ *
+ * <p>Unlike {@link FtBasic}, which gives every accepted socket to
+ * a {@link Back} and keeps a thread busy for as long as the connection
+ * stays open, this front reads request heads in a single selector
+ * thread. Only when the entire head of a request has arrived, the
+ * connection is switched to blocking mode and handed over to a worker,
+ * which runs the {@link Take} through {@link BkBasic} and prints the
+ * response. Then the connection goes back to the selector, so idle
+ * keep-alive connections don't hold any threads:
+ *
+ * <pre> new FtNio(
+ *   new TkText("hello, world!"),
+ *   ServerSocketChannel.open().bind(new InetSocketAddress(8080))
+ * ).start(Exit.NEVER);</pre>
+ *
+ * <p>The body of the request is not awaited by the selector, the
+ * worker reads it from the connection as the {@link Take} consumes it.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@EqualsAndHashCode
+public final class FtNio implements Front {
+
+    /**
+     * Default amount of worker threads.
+     */
+    private static final int DEFAULT_THREADS =
+        Runtime.getRuntime().availableProcessors() << 2;
+
+    /**
+     * Back to exchange requests through.
+     */
+    private final BkBasic back;
+
+    /**
+     * Server channel.
+     */
+    private final ServerSocketChannel server;
+
+    /**
+     * Workers.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Ctor.
+     * @param tks Take
+     * @param chnl Bound server channel
+     */
+    public FtNio(final Take tks, final ServerSocketChannel chnl) {
+        this(tks, chnl, FtNio.DEFAULT_THREADS);
+    }
+
+    /**
+     * Ctor.
+     * @param tks Take
+     * @param chnl Bound server channel
+     * @param threads How many workers run takes
+     */
+    public FtNio(final Take tks, final ServerSocketChannel chnl,
+        final int threads) {
+        this(
+            tks,
+            chnl,
+            new ThreadPoolExecutor(
+                threads, threads, 0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new Threads()
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param tks Take
+     * @param chnl Bound server channel
+     * @param svc Workers, which run takes
+     */
+    public FtNio(final Take tks, final ServerSocketChannel chnl,
+        final ExecutorService svc) {
+        this.back = new BkBasic(tks);
+        this.server = chnl;
+        this.workers = svc;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.UseTryWithResources")
+    public void start(final Exit exit) throws IOException {
+        final Queue<Inbound> returned = new ConcurrentLinkedQueue<>();
+        final Map<SelectionKey, Inbound> reading = new HashMap<>(0);
+        try (Selector selector = Selector.open()) {
+            this.server.configureBlocking(false);
+            final SelectionKey accepting = this.server.register(
+                selector, SelectionKey.OP_ACCEPT
+            );
+            final ByteBuffer buffer = ByteBuffer.allocate(4096);
+            try {
+                do {
+                    selector.select(TimeUnit.SECONDS.toMillis(1L));
+                    this.loop(selector, accepting, reading, buffer, returned);
+                } while (!exit.ready());
+            } finally {
+                this.workers.shutdown();
+                for (final Inbound inbound : reading.values()) {
+                    FtNio.quietly(inbound);
+                }
+                this.server.close();
+            }
+        }
+    }
+
+    /**
+     * Process everything the selector has to offer.
+     * @param selector Selector
+     * @param accepting The key of the server channel
+     * @param reading Connections collecting their heads
+     * @param buffer Buffer for reading
+     * @param returned Connections given back by workers
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void loop(final Selector selector, final SelectionKey accepting,
+        final Map<SelectionKey, Inbound> reading, final ByteBuffer buffer,
+        final Queue<Inbound> returned) throws IOException {
+        final Collection<Inbound> ready = new ArrayList<>(0);
+        final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            final SelectionKey key = keys.next();
+            keys.remove();
+            if (key.equals(accepting)) {
+                this.accept(selector, reading);
+            } else {
+                FtNio.read(key, reading, buffer, ready);
+            }
+        }
+        while (!returned.isEmpty()) {
+            final Inbound inbound = returned.poll();
+            if (inbound.complete()) {
+                ready.add(inbound);
+            } else {
+                FtNio.watch(inbound, selector, reading);
+            }
+        }
+        if (!ready.isEmpty()) {
+            selector.selectNow();
+            for (final Inbound inbound : ready) {
+                try {
+                    this.dispatch(inbound, selector, returned);
+                } catch (final IOException ex) {
+                    FtNio.quietly(inbound);
+                }
+            }
+        }
+    }
+
+    /**
+     * Watch the connection given back by a worker for its next head,
+     * or close it, if it is broken.
+     * @param inbound The connection
+     * @param selector Selector
+     * @param reading Connections collecting their heads
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    private static void watch(final Inbound inbound, final Selector selector,
+        final Map<SelectionKey, Inbound> reading) {
+        try {
+            final SocketChannel channel = inbound.channel();
+            channel.configureBlocking(false);
+            reading.put(
+                channel.register(selector, SelectionKey.OP_READ), inbound
+            );
+        } catch (final IOException ex) {
+            FtNio.quietly(inbound);
+        }
+    }
+
+    /**
+     * Accept all pending connections.
+     *
+     * <p>A connection that breaks while it is being accepted is closed,
+     * while others are accepted as usual.
+     *
+     * @param selector Selector
+     * @param reading Connections collecting their heads
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    private void accept(final Selector selector,
+        final Map<SelectionKey, Inbound> reading) throws IOException {
+        while (true) {
+            final SocketChannel client = this.server.accept();
+            if (client == null) {
+                break;
+            }
+            FtNio.watch(new Inbound(client), selector, reading);
+        }
+    }
+
+    /**
+     * Read what has arrived to the connection.
+     * @param key The key of the connection
+     * @param reading Connections collecting their heads
+     * @param buffer Buffer for reading
+     * @param ready Connections with complete heads
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void read(final SelectionKey key,
+        final Map<SelectionKey, Inbound> reading, final ByteBuffer buffer,
+        final Collection<Inbound> ready) {
+        final Inbound inbound = reading.get(key);
+        if (key.isValid() && FtNio.alive(inbound, buffer)) {
+            if (inbound.complete()) {
+                reading.remove(key);
+                key.cancel();
+                ready.add(inbound);
+            }
+        } else {
+            reading.remove(key);
+            key.cancel();
+            FtNio.quietly(inbound);
+        }
+    }
+
+    /**
+     * Read what has arrived to the connection, if it is not broken.
+     * @param inbound The connection
+     * @param buffer Buffer for reading
+     * @return TRUE if the connection is still open
+     */
+    private static boolean alive(final Inbound inbound,
+        final ByteBuffer buffer) {
+        boolean alive;
+        try {
+            alive = inbound.read(buffer);
+        } catch (final IOException ex) {
+            alive = false;
+        }
+        return alive;
+    }
+
+    /**
+     * Give a connection with a complete head to a worker.
+     * @param inbound The connection
+     * @param selector Selector to wake up when the connection is returned
+     * @param returned Queue of connections given back by workers
+     * @throws IOException If fails
+     */
+    private void dispatch(final Inbound inbound, final Selector selector,
+        final Queue<Inbound> returned) throws IOException {
+        inbound.channel().configureBlocking(true);
+        this.workers.execute(
+            () -> {
+                try {
+                    final Opt<Inbound> next = inbound.exchange(this.back);
+                    if (next.has() && this.workers.isShutdown()) {
+                        FtNio.quietly(next.get());
+                    } else if (next.has()) {
+                        returned.add(next.get());
+                        selector.wakeup();
+                    }
+                } catch (final IOException ex) {
+                    FtNio.quietly(inbound);
+                }
+            }
+        );
+    }
+
+    /**
+     * Close the connection quietly.
+     * @param inbound The connection
+     */
+    private static void quietly(final Inbound inbound) {
+        try {
+            inbound.close();
+        } catch (final IOException ignored) {
+        }
+    }
+}
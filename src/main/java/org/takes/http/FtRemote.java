@@ -5,8 +5,10 @@
 package org.takes.http;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.URI;
+import java.nio.channels.ServerSocketChannel;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -61,7 +63,10 @@ public final class FtRemote implements Front {
      * @throws IOException If fails
      */
     public FtRemote(final Back that) throws IOException {
-        this(that, new ServerSocket(0));
+        this(
+            that,
+            ServerSocketChannel.open().bind(new InetSocketAddress(0)).socket()
+        );
     }
 
     /**
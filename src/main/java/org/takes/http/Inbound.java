@@ -0,0 +1,230 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.takes.misc.Opt;
+
+/**
+ * Inbound connection of {@link FtNio}, which collects the head of
+ * the next request without blocking.
+ *
+ * <p>Bytes are fed into a small state machine that looks for the empty
+ * line terminating the head (CRLF CRLF), skipping the empty lines that
+ * may precede the request line. Once the head is complete, the
+ * connection can be switched to blocking mode and exchanged through
+ * a {@link BkBasic}.
+ *
+ * <p>The class is NOT thread-safe, it is owned either by the selector
+ * thread or by a single worker thread at any moment.
+ *
+ * @since 2.0
+ */
+final class Inbound implements Closeable {
+
+    /**
+     * Maximum size of the head we are ready to collect in memory.
+     */
+    private static final int LIMIT = 64 * 1024;
+
+    /**
+     * State when no bytes of the request line are seen yet.
+     */
+    private static final int IDLE = -1;
+
+    /**
+     * State when the entire head is seen.
+     */
+    private static final int DONE = 4;
+
+    /**
+     * Channel.
+     */
+    private final SocketChannel socket;
+
+    /**
+     * Bytes collected so far.
+     */
+    private final ByteArrayOutputStream head;
+
+    /**
+     * How many bytes of the CRLF CRLF sequence are matched.
+     */
+    private final AtomicInteger matched;
+
+    /**
+     * Watch of the connection.
+     */
+    private final Watch watch;
+
+    /**
+     * Ctor.
+     * @param chnl Channel
+     */
+    Inbound(final SocketChannel chnl) {
+        this(chnl, new Watch());
+    }
+
+    /**
+     * Ctor.
+     * @param chnl Channel
+     * @param wtch Watch of the connection, which counts its exchanges
+     */
+    Inbound(final SocketChannel chnl, final Watch wtch) {
+        this.socket = chnl;
+        this.head = new ByteArrayOutputStream();
+        this.matched = new AtomicInteger(Inbound.IDLE);
+        this.watch = wtch;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+    }
+
+    /**
+     * The channel.
+     * @return Channel
+     */
+    SocketChannel channel() {
+        return this.socket;
+    }
+
+    /**
+     * Read what is available in the channel, without blocking.
+     * @param buffer Buffer to use for reading
+     * @return FALSE if the channel is closed by the client
+     * @throws IOException If fails
+     */
+    boolean read(final ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        final int read = this.socket.read(buffer);
+        if (read > 0) {
+            this.feed(buffer.array(), read);
+        }
+        return read >= 0;
+    }
+
+    /**
+     * Is the head complete, or too big to wait for it any longer?
+     * @return TRUE if the request may be dispatched
+     */
+    boolean complete() {
+        return this.matched.get() == Inbound.DONE
+            || this.head.size() >= Inbound.LIMIT;
+    }
+
+    /**
+     * Exchange one request in blocking mode.
+     *
+     * <p>The collected bytes are replayed in front of the channel stream,
+     * so {@link BkBasic} sees the request exactly as it came from
+     * the client. If the connection may be reused, the bytes that
+     * were read but not consumed (pipelined requests) are carried over
+     * to the returned inbound.
+     *
+     * @param back Back to exchange through
+     * @return The connection, ready for the next request, if any
+     * @throws IOException If fails
+     */
+    Opt<Inbound> exchange(final BkBasic back) throws IOException {
+        final ByteArrayInputStream prefix =
+            new ByteArrayInputStream(this.head.toByteArray());
+        final boolean reusable;
+        try (
+            OutputStream output = new PooledOutput(
+                this.watch.output(
+                    Channels.newOutputStream(this.socket), Watch.FIRST
+                )
+            )
+        ) {
+            reusable = back.exchange(
+                new SequenceInputStream(
+                    prefix, Channels.newInputStream(this.socket)
+                ),
+                this.socket.socket(),
+                output,
+                this.watch
+            );
+        }
+        final Opt<Inbound> next;
+        if (reusable) {
+            final byte[] rest = new byte[prefix.available()];
+            if (rest.length > 0
+                && prefix.read(rest, 0, rest.length) < rest.length) {
+                throw new IOException("Failed to carry over pipelined bytes");
+            }
+            final Inbound inbound = new Inbound(this.socket, this.watch);
+            inbound.feed(rest, rest.length);
+            next = new Opt.Single<>(inbound);
+        } else {
+            this.close();
+            next = new Opt.Empty<>();
+        }
+        return next;
+    }
+
+    /**
+     * Feed bytes into the collected head.
+     * @param bytes Bytes
+     * @param len How many bytes to take
+     */
+    private void feed(final byte[] bytes, final int len) {
+        this.head.write(bytes, 0, len);
+        this.matched.set(Inbound.scan(this.matched.get(), bytes, len));
+    }
+
+    /**
+     * Move the CRLF CRLF matcher through the bytes.
+     * @param state Current state
+     * @param bytes Bytes
+     * @param len How many bytes to take
+     * @return New state
+     */
+    private static int scan(final int state, final byte[] bytes,
+        final int len) {
+        int next = state;
+        for (int idx = 0; idx < len; ++idx) {
+            next = Inbound.next(next, bytes[idx]);
+        }
+        return next;
+    }
+
+    /**
+     * Next state of the CRLF CRLF matcher.
+     * @param state Current state
+     * @param data Next byte
+     * @return New state
+     */
+    private static int next(final int state, final byte data) {
+        final int next;
+        if (state == Inbound.DONE) {
+            next = state;
+        } else if (state == Inbound.IDLE) {
+            if (data == '\r' || data == '\n') {
+                next = state;
+            } else {
+                next = 0;
+            }
+        } else if (state % 2 == 0 && data == '\r'
+            || state % 2 == 1 && data == '\n') {
+            next = state + 1;
+        } else if (data == '\r') {
+            next = 1;
+        } else {
+            next = 0;
+        }
+        return next;
+    }
+}
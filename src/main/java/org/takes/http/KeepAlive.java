@@ -0,0 +1,228 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.misc.Buffers;
+import org.takes.rs.RsWithHeader;
+import org.takes.rs.RsWithoutHeader;
+
+/**
+ * Rules of persistent HTTP/1.1 connections, for {@link BkBasic}.
+ *
+ * <p>A connection is used for the next request unless the client
+ * or the take says {@code Connection: close}, the request is made
+ * by HTTP/1.0 or has a body of unknown length ({@code Transfer-Encoding}),
+ * or the maximum of requests per connection is served. The last response
+ * on the connection goes with {@code Connection: close}.
+ *
+ * <p>Pipelined requests, which are already in the connection, are
+ * always served, one by one, in the order of their arrival. When
+ * nothing is in the connection yet, the next request is awaited for
+ * the idle time, in milliseconds. By default, the idle time is zero,
+ * because {@link FtBasic} accepts new connections in the same thread,
+ * and waiting on an idle connection would make other clients wait too.
+ * Give it a few seconds when connections are served in threads of
+ * their own, like in {@link BkParallel} or {@link BkVirtual}:
+ *
+ * <pre> new FtBasic(
+ *   new BkParallel(new BkBasic(take, new KeepAlive(5000L)), 16),
+ *   8080
+ * ).start(Exit.NEVER);</pre>
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class KeepAlive {
+
+    /**
+     * Default maximum of requests per connection.
+     */
+    private static final int MAX = 100;
+
+    /**
+     * How long to wait for the next request, in milliseconds.
+     */
+    private final long idle;
+
+    /**
+     * Maximum of requests per connection.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     */
+    public KeepAlive() {
+        this(0L);
+    }
+
+    /**
+     * Ctor.
+     * @param msec How long to wait for the next request, in milliseconds
+     */
+    public KeepAlive(final long msec) {
+        this(msec, KeepAlive.MAX);
+    }
+
+    /**
+     * Ctor.
+     * @param msec How long to wait for the next request, in milliseconds
+     * @param most Maximum of requests per connection
+     */
+    public KeepAlive(final long msec, final int most) {
+        this.idle = msec;
+        this.max = most;
+    }
+
+    /**
+     * May the connection be used after this exchange?
+     * @param req Request
+     * @param res Response of the take
+     * @param served How many requests are served on the connection,
+     *  including this one
+     * @return TRUE if it may
+     * @throws IOException If fails
+     */
+    boolean persistent(final Request req, final Response res,
+        final int served) throws IOException {
+        return served < this.max
+            && !KeepAlive.last(req)
+            && !KeepAlive.closing(res.head());
+    }
+
+    /**
+     * Response that tells the client if the connection is closed after it.
+     * @param res Response
+     * @param persistent Will the connection be used after the response?
+     * @return Response, with {@code Connection: close} if it won't
+     */
+    static Response announced(final Response res,
+        final boolean persistent) {
+        final Response announced;
+        if (persistent) {
+            announced = res;
+        } else {
+            announced = new RsWithHeader(
+                new RsWithoutHeader(res, "Connection"), "Connection", "close"
+            );
+        }
+        return announced;
+    }
+
+    /**
+     * Wait for the next request on the connection.
+     * @param socket Socket of the connection
+     * @param input Input stream of the socket, which supports marks
+     * @return TRUE if the next request arrived in time
+     * @throws IOException If fails
+     */
+    boolean await(final Socket socket, final InputStream input)
+        throws IOException {
+        boolean ready = input.available() > 0;
+        if (!ready && this.idle > 0L) {
+            final int before = socket.getSoTimeout();
+            socket.setSoTimeout((int) Math.min(this.idle, Integer.MAX_VALUE));
+            input.mark(1);
+            try {
+                ready = input.read() >= 0;
+                input.reset();
+            } catch (final SocketTimeoutException ex) {
+                ready = false;
+            } finally {
+                socket.setSoTimeout(before);
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * Read away what the client has sent, before closing the connection
+     * on a broken request, so that the client gets the response.
+     * @param input Input stream of the connection
+     * @param max Maximum of bytes to read
+     * @throws IOException If fails
+     */
+    static void linger(final InputStream input, final long max)
+        throws IOException {
+        final Buffers buffers = new Buffers();
+        final byte[] buf = buffers.take();
+        long total = 0L;
+        try {
+            while (total < max && input.available() > 0) {
+                final int read = input.read(buf);
+                if (read < 0) {
+                    break;
+                }
+                total += read;
+            }
+        } finally {
+            buffers.give(buf);
+        }
+    }
+
+    /**
+     * Must the connection be closed after this request?
+     * @param req Request
+     * @return TRUE if it is made by HTTP/1.0, or the client asks to close
+     *  the connection, or its body is of unknown length
+     * @throws IOException If fails
+     */
+    private static boolean last(final Request req) throws IOException {
+        return req.head().iterator().next().endsWith(" HTTP/1.0")
+            || KeepAlive.closing(req.head())
+            || KeepAlive.chunked(req);
+    }
+
+    /**
+     * Is there a {@code close} token in the {@code Connection} header?
+     * @param head Head of the request or response
+     * @return TRUE if there is
+     */
+    private static boolean closing(final Iterable<String> head) {
+        boolean closing = false;
+        for (final String header : head) {
+            final String lower = header.toLowerCase(Locale.ENGLISH);
+            if (lower.startsWith("connection:")) {
+                for (final String token : lower.substring(11).split(",")) {
+                    if ("close".equals(token.trim())) {
+                        closing = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return closing;
+    }
+
+    /**
+     * Has the request a body of unknown length?
+     * @param req Request
+     * @return TRUE if it has {@code Transfer-Encoding}
+     * @throws IOException If fails
+     */
+    private static boolean chunked(final Request req) throws IOException {
+        boolean chunked = false;
+        for (final String header : req.head()) {
+            if (header.toLowerCase(Locale.ENGLISH)
+                .startsWith("transfer-encoding:")) {
+                chunked = true;
+                break;
+            }
+        }
+        return chunked;
+    }
+}
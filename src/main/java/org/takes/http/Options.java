@@ -8,7 +8,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.nio.channels.ServerSocketChannel;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -25,14 +27,15 @@ import org.cactoos.text.UncheckedText;
  *
  * <p>This class parses and provides access to command-line options
  * for configuring the HTTP server. It supports options such as port
- * specification, daemon mode, thread count, hit-refresh mode, and
- * maximum latency settings.
+ * specification, daemon mode, thread count (or virtual threads),
+ * hit-refresh mode, NIO mode, and maximum latency settings.
  *
  * <p>The class is immutable and thread-safe.
  *
  * @since 0.2
  */
 @EqualsAndHashCode
+@SuppressWarnings("PMD.TooManyMethods")
 final class Options {
 
     /**
@@ -71,32 +74,28 @@ final class Options {
      * @throws IOException If fails
      */
     ServerSocket socket() throws IOException {
-        final String port = this.map.get("port");
-        if (port == null) {
-            throw new IllegalArgumentException("--port must be specified");
-        }
-        final ServerSocket socket;
-        if (port.matches("\\d+")) {
-            socket = new ServerSocket(Integer.parseInt(port));
-        } else {
-            final File file = new File(port);
-            if (file.exists()) {
-                try (Reader reader = new ReaderOf(file.toPath())) {
-                    final char[] chars = new char[8];
-                    socket = new ServerSocket(
-                        Integer.parseInt(
-                            new String(chars, 0, reader.read(chars))
-                        )
-                    );
-                }
-            } else {
-                socket = new ServerSocket(0);
-                try (Writer writer = new WriterTo(file.toPath())) {
-                    writer.append(Integer.toString(socket.getLocalPort()));
-                }
-            }
-        }
-        return socket;
+        return this.bound(new ServerSocket());
+    }
+
+    /**
+     * Get the channel to listen to, for non-blocking fronts.
+     * @return Channel
+     * @throws IOException If fails
+     * @since 2.0
+     */
+    ServerSocketChannel channel() throws IOException {
+        final ServerSocketChannel channel = ServerSocketChannel.open();
+        this.bound(channel.socket());
+        return channel;
+    }
+
+    /**
+     * Is it a non-blocking NIO front?
+     * @return TRUE if yes
+     * @since 2.0
+     */
+    boolean nio() {
+        return this.map.containsKey("nio");
     }
 
     /**
@@ -133,6 +132,49 @@ final class Options {
         );
     }
 
+    /**
+     * Get the maximum of sockets waiting for a free thread.
+     * @return Capacity of the queue
+     * @since 2.0
+     */
+    int queue() {
+        return Integer.parseInt(
+            this.map.getOrDefault(
+                "queue", String.valueOf(Integer.MAX_VALUE)
+            )
+        );
+    }
+
+    /**
+     * Shall sockets run on virtual threads ({@code --threads=virtual})?
+     * @return TRUE if yes
+     * @since 2.0
+     */
+    boolean virtual() {
+        return "virtual".equals(this.map.get("threads"));
+    }
+
+    /**
+     * Get the maximum of connections processed at the same time
+     * on virtual threads.
+     * @return Maximum
+     * @since 2.0
+     */
+    int maxConnections() {
+        return Integer.parseInt(
+            this.map.getOrDefault("max-connections", "10000")
+        );
+    }
+
+    /**
+     * Get the time to wait for the next request on a connection.
+     * @return Milliseconds, zero by default
+     * @since 2.0
+     */
+    long keepAlive() {
+        return Long.parseLong(this.map.getOrDefault("keep-alive", "0"));
+    }
+
     /**
      * Get the max latency in milliseconds.
      * @return Latency
@@ -169,4 +211,55 @@ final class Options {
         }
         return map;
     }
+
+    /**
+     * Bind the socket to the port from the arguments, or close it
+     * if it can't be bound.
+     * @param socket Unbound socket
+     * @return The same socket, bound
+     * @throws IOException If fails
+     */
+    private ServerSocket bound(final ServerSocket socket) throws IOException {
+        try {
+            this.bind(socket);
+        } catch (final IOException | IllegalArgumentException ex) {
+            socket.close();
+            throw ex;
+        }
+        return socket;
+    }
+
+    /**
+     * Bind the socket to the port from the arguments.
+     * @param socket Unbound socket
+     * @throws IOException If fails
+     */
+    private void bind(final ServerSocket socket) throws IOException {
+        final String port = this.map.get("port");
+        if (port == null) {
+            throw new IllegalArgumentException("--port must be specified");
+        }
+        if (port.matches("\\d+")) {
+            socket.bind(new InetSocketAddress(Integer.parseInt(port)));
+        } else {
+            final File file = new File(port);
+            if (file.exists()) {
+                try (Reader reader = new ReaderOf(file.toPath())) {
+                    final char[] chars = new char[8];
+                    socket.bind(
+                        new InetSocketAddress(
+                            Integer.parseInt(
+                                new String(chars, 0, reader.read(chars))
+                            )
+                        )
+                    );
+                }
+            } else {
+                socket.bind(new InetSocketAddress(0));
+                try (Writer writer = new WriterTo(file.toPath())) {
+                    writer.append(Integer.toString(socket.getLocalPort()));
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import org.takes.misc.Buffers;
+
+/**
+ * Buffered output stream of a connection, with a buffer taken from
+ * {@link Buffers}.
+ *
+ * <p>It works like {@link java.io.BufferedOutputStream}, but doesn't
+ * allocate a buffer for every connection. Closing it flushes the buffer
+ * and gives it back, while the stream it writes into stays open, since
+ * it belongs to the socket. It must be closed by the thread that made it.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class PooledOutput extends OutputStream {
+
+    /**
+     * Stream to write into.
+     */
+    private final OutputStream origin;
+
+    /**
+     * Buffers.
+     */
+    private final Buffers buffers;
+
+    /**
+     * Buffer.
+     */
+    private final byte[] buf;
+
+    /**
+     * How many bytes are in the buffer.
+     */
+    private int count;
+
+    /**
+     * Is the buffer given back?
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param stream Stream to write into
+     */
+    PooledOutput(final OutputStream stream) {
+        this(stream, new Buffers());
+    }
+
+    /**
+     * Ctor.
+     * @param stream Stream to write into
+     * @param pool Buffers
+     */
+    PooledOutput(final OutputStream stream, final Buffers pool) {
+        this(stream, pool, pool.take());
+    }
+
+    /**
+     * Ctor.
+     * @param stream Stream to write into
+     * @param pool Buffers
+     * @param taken Buffer, taken from the buffers
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    PooledOutput(final OutputStream stream, final Buffers pool,
+        final byte[] taken) {
+        super();
+        this.origin = stream;
+        this.buffers = pool;
+        this.buf = taken;
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.open();
+        if (this.count == this.buf.length) {
+            this.drain();
+        }
+        this.buf[this.count] = (byte) data;
+        ++this.count;
+    }
+
+    @Override
+    public void write(final byte[] data, final int off, final int len)
+        throws IOException {
+        this.open();
+        if (len >= this.buf.length) {
+            this.drain();
+            this.origin.write(data, off, len);
+        } else {
+            if (len > this.buf.length - this.count) {
+                this.drain();
+            }
+            System.arraycopy(data, off, this.buf, this.count, len);
+            this.count += len;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.open();
+        this.drain();
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            try {
+                this.flush();
+            } finally {
+                this.closed = true;
+                this.buffers.give(this.buf);
+            }
+        }
+    }
+
+    /**
+     * Write the buffer into the stream.
+     * @throws IOException If fails
+     */
+    private void drain() throws IOException {
+        if (this.count > 0) {
+            this.origin.write(this.buf, 0, this.count);
+            this.count = 0;
+        }
+    }
+
+    /**
+     * Make sure the buffer is not given back yet.
+     * @throws IOException If it is
+     */
+    private void open() throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+/**
+ * Listener of the timing of exchanges in {@link BkBasic}.
+ *
+ * <p>It is told how long every phase of every exchange took, after the
+ * response is sent, in the thread of the connection, so it must be fast
+ * and must not throw, for example:
+ *
+ * <pre> new BkBasic(
+ *   take,
+ *   exchange -> {
+ *     if (exchange.body() &gt; TimeUnit.SECONDS.toNanos(1L)) {
+ *       Logger.info(this, "Slow client: %s", exchange);
+ *     }
+ *   }
+ * );</pre>
+ *
+ * <p>All implementations of this interface must be thread-safe.
+ *
+ * @since 2.0
+ */
+@FunctionalInterface
+public interface Timing {
+
+    /**
+     * Timing that ignores everything.
+     */
+    Timing NONE = exchange -> { };
+
+    /**
+     * The exchange is finished.
+     * @param exchange Timing of its phases
+     */
+    void exchanged(Exchange exchange);
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.util.concurrent.ThreadFactory;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Factory of JDK virtual threads.
+ *
+ * <p>The framework is compiled for older JDKs, that's why the factory
+ * is obtained through reflection, when the first thread is requested.
+ * On a JVM without virtual threads {@link IllegalStateException}
+ * is thrown.
+ *
+ * @since 2.0
+ */
+final class VirtualThreads implements ThreadFactory {
+
+    /**
+     * JDK factory of virtual threads.
+     */
+    private final Unchecked<ThreadFactory> origin;
+
+    /**
+     * Ctor.
+     */
+    VirtualThreads() {
+        this.origin = new Unchecked<>(new Sticky<>(VirtualThreads::jdk));
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        return this.origin.value().newThread(runnable);
+    }
+
+    /**
+     * Make a factory with {@code Thread.ofVirtual()}.
+     * @return Factory
+     */
+    private static ThreadFactory jdk() {
+        try {
+            final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            return ThreadFactory.class.cast(
+                builder.getMethod("factory").invoke(
+                    builder.getMethod("name", String.class, long.class).invoke(
+                        Thread.class.getMethod("ofVirtual").invoke(null),
+                        new UncheckedText(
+                            new FormattedText(
+                                "%s-", BkVirtual.class.getSimpleName()
+                            )
+                        ).asString(),
+                        0L
+                    )
+                )
+            );
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException(
+                "Virtual threads are not available in this JVM, Java 21+ is required",
+                ex
+            );
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moments of the phases of exchanges on one connection.
+ *
+ * <p>Every phase is marked once per exchange, the first time it is
+ * reached. The moments of writing the head of the response and of
+ * sending the first byte into the socket are marked by output streams,
+ * see {@link #output(OutputStream, int)}.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class Watch {
+
+    /**
+     * Reading of the request started.
+     */
+    static final int STARTED = 0;
+
+    /**
+     * The head of the request is parsed.
+     */
+    static final int PARSED = 1;
+
+    /**
+     * The take acted.
+     */
+    static final int ACTED = 2;
+
+    /**
+     * The head of the response is printed.
+     */
+    static final int RENDERED = 3;
+
+    /**
+     * The first byte went into the socket.
+     */
+    static final int FIRST = 4;
+
+    /**
+     * The response is sent.
+     */
+    static final int DONE = 5;
+
+    /**
+     * Moments, by phase.
+     */
+    private final long[] marks;
+
+    /**
+     * Phases marked.
+     */
+    private final BitSet marked;
+
+    /**
+     * Exchanges started.
+     */
+    private final AtomicInteger started;
+
+    /**
+     * Ctor.
+     */
+    Watch() {
+        this.marks = new long[Watch.DONE + 1];
+        this.marked = new BitSet(Watch.DONE + 1);
+        this.started = new AtomicInteger();
+    }
+
+    /**
+     * Start a new exchange.
+     */
+    void start() {
+        this.started.incrementAndGet();
+        this.marked.clear();
+        this.mark(Watch.STARTED);
+    }
+
+    /**
+     * How many exchanges were started on the connection.
+     * @return Number of exchanges, including the current one
+     */
+    int exchanges() {
+        return this.started.get();
+    }
+
+    /**
+     * Mark the phase, if it is not marked yet.
+     * @param phase Phase
+     */
+    void mark(final int phase) {
+        if (!this.marked.get(phase)) {
+            this.marks[phase] = System.nanoTime();
+            this.marked.set(phase);
+        }
+    }
+
+    /**
+     * Finish the exchange.
+     * @return Timing of its phases
+     */
+    Exchange finish() {
+        this.mark(Watch.DONE);
+        final long[] moments = new long[this.marks.length];
+        for (int phase = 0; phase < moments.length; ++phase) {
+            if (this.marked.get(phase)) {
+                moments[phase] = this.marks[phase];
+            } else {
+                moments[phase] = moments[phase - 1];
+            }
+        }
+        return new Exchange(moments);
+    }
+
+    /**
+     * Stream that marks the phase when something is written into it.
+     * @param origin Stream to write into
+     * @param phase Phase
+     * @return Stream
+     */
+    OutputStream output(final OutputStream origin, final int phase) {
+        return new FilterOutputStream(origin) {
+            @Override
+            public void write(final int data) throws IOException {
+                Watch.this.mark(phase);
+                this.out.write(data);
+            }
+
+            @Override
+            public void write(final byte[] buf, final int off,
+                final int len) throws IOException {
+                Watch.this.mark(phase);
+                this.out.write(buf, off, len);
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.misc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Byte buffers for copying bodies, reused by every thread.
+ *
+ * <p>Every thread keeps a few free buffers of its own, so a buffer
+ * taken and given back by the same thread is never allocated again,
+ * and threads never wait for each other. Buffers may be taken one after
+ * another, when copy loops are nested, like when the body being copied
+ * is compressed on the fly. A buffer taken must be given back by the
+ * same thread, once nobody refers to it any more:
+ *
+ * <pre> final Buffers buffers = new Buffers();
+ * final byte[] buf = buffers.take();
+ * try {
+ *     input.read(buf);
+ * } finally {
+ *     buffers.give(buf);
+ * }</pre>
+ *
+ * <p>A thread that serves one connection after another, like a worker of
+ * {@link org.takes.http.BkParallel}, copies bodies without allocating
+ * anything; a virtual thread allocates its buffers once for its connection.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+public final class Buffers {
+
+    /**
+     * Size of every buffer.
+     */
+    public static final int SIZE = 8192;
+
+    /**
+     * Maximum of free buffers kept by a thread.
+     */
+    private static final int DEPTH = 8;
+
+    /**
+     * Free buffers of every thread, shared by all instances.
+     */
+    private static final ThreadLocal<Deque<byte[]>> FREE =
+        ThreadLocal.withInitial(() -> new ArrayDeque<>(Buffers.DEPTH));
+
+    /**
+     * Free buffers of every thread.
+     */
+    private final ThreadLocal<Deque<byte[]>> free;
+
+    /**
+     * Ctor.
+     */
+    public Buffers() {
+        this.free = Buffers.FREE;
+    }
+
+    /**
+     * Take a free buffer, or allocate a new one if this thread has none.
+     * @return Buffer of {@link #SIZE} bytes, with random content
+     */
+    public byte[] take() {
+        byte[] buf = this.free.get().pollFirst();
+        if (buf == null) {
+            buf = new byte[Buffers.SIZE];
+        }
+        return buf;
+    }
+
+    /**
+     * Give the buffer back to this thread.
+     * @param buf Buffer, taken before
+     */
+    public void give(final byte[] buf) {
+        final Deque<byte[]> deque = this.free.get();
+        if (buf.length == Buffers.SIZE && deque.size() < Buffers.DEPTH) {
+            deque.addFirst(buf);
+        }
+    }
+
+    /**
+     * Copy everything from the input into the output.
+     * @param input Input, which is not closed
+     * @param output Output, which is not flushed or closed
+     * @return How many bytes were copied
+     * @throws IOException If fails
+     */
+    public long copy(final InputStream input, final OutputStream output)
+        throws IOException {
+        final byte[] buf = this.take();
+        long total = 0L;
+        try {
+            while (true) {
+                final int read = input.read(buf);
+                if (read < 0) {
+                    break;
+                }
+                output.write(buf, 0, read);
+                total += read;
+            }
+        } finally {
+            this.give(buf);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bytes of a request head, read from the stream in chunks.
+ *
+ * <p>If the stream supports {@link InputStream#mark(int)}, as
+ * {@link java.io.BufferedInputStream} and
+ * {@link java.io.ByteArrayInputStream} do, bytes are read into
+ * the chunk in bulk and, when the head is over, the stream is reset
+ * and moved right behind the last byte taken, so the body stays in
+ * the stream untouched. Otherwise, bytes are read one by one.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class HeadBytes {
+
+    /**
+     * Size of the chunk.
+     */
+    private static final int SIZE = 4096;
+
+    /**
+     * Original stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * Chunk of bytes read from the stream.
+     */
+    private final byte[] chunk;
+
+    /**
+     * Position of the next byte in the chunk.
+     */
+    private int pos;
+
+    /**
+     * How many bytes of the chunk are read from the stream.
+     */
+    private int limit;
+
+    /**
+     * Ctor.
+     * @param stream Original stream
+     */
+    HeadBytes(final InputStream stream) {
+        this.origin = stream;
+        this.chunk = new byte[HeadBytes.SIZE];
+    }
+
+    /**
+     * Take the next byte, waiting for it if necessary.
+     * @return The byte or -1 if the stream is over
+     * @throws IOException If fails
+     */
+    int read() throws IOException {
+        final int data;
+        if (this.pos < this.limit || this.fill()) {
+            data = this.chunk[this.pos] & 0xFF;
+            this.pos += 1;
+        } else {
+            data = -1;
+        }
+        return data;
+    }
+
+    /**
+     * Take the next byte only if it has already arrived.
+     * @return The byte or -1 if nothing is available right now
+     * @throws IOException If fails
+     */
+    int next() throws IOException {
+        final int data;
+        if (this.pos < this.limit || this.origin.available() > 0) {
+            data = this.read();
+        } else {
+            data = -1;
+        }
+        return data;
+    }
+
+    /**
+     * Give back to the stream the bytes read but not taken.
+     * @throws IOException If fails
+     */
+    void release() throws IOException {
+        if (this.limit > 0 && this.origin.markSupported()) {
+            this.origin.reset();
+            long left = this.pos;
+            while (left > 0L) {
+                final long skipped = this.origin.skip(left);
+                if (skipped <= 0L) {
+                    throw new IOException("Failed to skip the head");
+                }
+                left -= skipped;
+            }
+        }
+    }
+
+    /**
+     * Read the next chunk from the stream.
+     * @return FALSE if the stream is over
+     * @throws IOException If fails
+     */
+    private boolean fill() throws IOException {
+        final int len;
+        if (this.origin.markSupported()) {
+            this.origin.mark(this.chunk.length);
+            len = this.chunk.length;
+        } else {
+            len = 1;
+        }
+        final int read = this.origin.read(this.chunk, 0, len);
+        this.pos = 0;
+        this.limit = Math.max(read, 0);
+        return read > 0;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.Lowered;
+import org.cactoos.text.TextOf;
+import org.cactoos.text.Trimmed;
+import org.cactoos.text.UncheckedText;
+import org.takes.HttpException;
+import org.takes.Request;
+
+/**
+ * Index of request headers, parsed once per head.
+ *
+ * <p>Headers are indexed by their lower-cased names. A request wrapped
+ * by {@link HeadOnce} keeps the index in its head, so every decorator
+ * that looks at the headers of the same request ({@link RqHeaders.Base},
+ * {@link RqHref.Base}, {@link org.takes.facets.cookies.RqCookies.Base},
+ * forks, etc.) gets the same index without parsing the head again.
+ * The head of any other request is parsed every time.
+ *
+ * <p>The index is unmodifiable.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class HeadIndex {
+
+    /**
+     * Request.
+     */
+    private final Request req;
+
+    /**
+     * Ctor.
+     * @param request Request
+     */
+    HeadIndex(final Request request) {
+        this.req = request;
+    }
+
+    /**
+     * Get the index.
+     * @return Values of headers by their lower-cased names
+     * @throws IOException If fails
+     */
+    Map<String, List<String>> map() throws IOException {
+        final Iterable<String> head = this.req.head();
+        final Map<String, List<String>> map;
+        if (head instanceof IndexedHead) {
+            map = ((IndexedHead) head).index();
+        } else {
+            map = HeadIndex.parse(head);
+        }
+        return map;
+    }
+
+    /**
+     * Parse the head.
+     * @param lines Lines of the head
+     * @return Index
+     * @throws HttpException If the head is broken
+     */
+    static Map<String, List<String>> parse(final Iterable<String> lines)
+        throws HttpException {
+        final Iterator<String> head = lines.iterator();
+        if (!head.hasNext()) {
+            throw new HttpException(
+                HttpURLConnection.HTTP_BAD_REQUEST,
+                "A valid request must contain at least one line in the head"
+            );
+        }
+        head.next();
+        final Map<String, List<String>> map = new HashMap<>(0);
+        int pos = 1;
+        while (head.hasNext()) {
+            final String line = head.next();
+            final String[] parts = line.split(":", 2);
+            if (parts.length < 2) {
+                throw new HttpException(
+                    HttpURLConnection.HTTP_BAD_REQUEST,
+                    new UncheckedText(
+                        new FormattedText(
+                            "Invalid HTTP header on line #%d: \"%s\"",
+                            pos, line
+                        )
+                    ).asString()
+                );
+            }
+            final String key = new UncheckedText(
+                new Lowered(new Trimmed(new TextOf(parts[0])))
+            ).asString();
+            if (!map.containsKey(key)) {
+                map.put(key, new ArrayList<>(1));
+            }
+            map.get(key).add(
+                new UncheckedText(
+                    new Trimmed(new TextOf(parts[1]))
+                ).asString()
+            );
+            pos += 1;
+        }
+        for (final Map.Entry<String, List<String>> entry : map.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
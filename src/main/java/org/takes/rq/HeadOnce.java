@@ -17,6 +17,8 @@ import org.takes.Request;
  * is delegated to the original request without caching. This is useful when
  * the head is computed lazily and we want to make sure it is not produced
  * more than once, while still allowing the body to be streamed normally.
+ * The head also keeps the index of its headers, so they are parsed only
+ * once for all decorators, see {@link HeadIndex}.
  *
  * <p>The class is immutable and thread-safe.
  *
@@ -32,7 +34,9 @@ public final class HeadOnce extends RqWrap {
     public HeadOnce(final Request req) {
         super(
             new RequestOf(
-                new IoChecked<>(new Sticky<>(req::head))::value,
+                new IoChecked<>(
+                    new Sticky<>(() -> new IndexedHead(req.head()))
+                )::value,
                 req
             )
         );
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * Head of a request, which remembers the index of its headers.
+ *
+ * <p>It is made by {@link HeadOnce}, once per request, so the index
+ * is built the first time {@link HeadIndex} asks for it and lives
+ * as long as the request.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class IndexedHead implements Iterable<String> {
+
+    /**
+     * Lines of the head.
+     */
+    private final Iterable<String> lines;
+
+    /**
+     * Index of the headers.
+     */
+    private final Scalar<Map<String, List<String>>> parsed;
+
+    /**
+     * Ctor.
+     * @param head Lines of the head
+     */
+    IndexedHead(final Iterable<String> head) {
+        this.lines = head;
+        this.parsed = new Sticky<>(() -> HeadIndex.parse(head));
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return this.lines.iterator();
+    }
+
+    /**
+     * Get the index, built once.
+     * @return Values of headers by their lower-cased names
+     * @throws IOException If the head is broken
+     */
+    Map<String, List<String>> index() throws IOException {
+        return new IoChecked<>(this.parsed).value();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+import org.takes.HttpException;
+
+/**
+ * Head of a live HTTP request, parsed byte by byte.
+ *
+ * <p>Bytes are taken from {@link HeadBytes} as primitive integers and
+ * collected in a plain byte array, which grows only if a header line
+ * is longer than the array and is reused for every line of the head.
+ * Strings are created once per header line, nothing else is allocated
+ * per byte or per line.
+ *
+ * <p>The stream is left positioned right behind the empty line which
+ * terminates the head, the rest of it belongs to the body.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class LiveHead {
+
+    /**
+     * Initial capacity of the line buffer.
+     */
+    private static final int CAPACITY = 256;
+
+    /**
+     * Input stream.
+     */
+    private final InputStream input;
+
+    /**
+     * Ctor.
+     * @param stream Input stream, positioned at the start of the request
+     */
+    LiveHead(final InputStream stream) {
+        this.input = stream;
+    }
+
+    /**
+     * Read and validate all lines of the head.
+     * @return Lines, the first one is the request line
+     * @throws IOException If fails or the head is malformed
+     */
+    Collection<String> lines() throws IOException {
+        final HeadBytes bytes = new HeadBytes(this.input);
+        try {
+            return LiveHead.lines(bytes);
+        } finally {
+            bytes.release();
+        }
+    }
+
+    /**
+     * Read and validate all lines of the head.
+     * @param bytes Bytes of the head
+     * @return Lines, the first one is the request line
+     * @throws IOException If fails or the head is malformed
+     */
+    private static Collection<String> lines(final HeadBytes bytes)
+        throws IOException {
+        int data = bytes.read();
+        if (data <= 0) {
+            throw new IOException("empty request");
+        }
+        final Collection<String> head = new ArrayList<>(0);
+        byte[] line = new byte[LiveHead.CAPACITY];
+        int len = 0;
+        while (data > 0) {
+            if (data == '\r') {
+                LiveHead.lineFeed(bytes, line, len, head.size() + 1);
+                if (len == 0 && !head.isEmpty()) {
+                    break;
+                }
+                data = bytes.read();
+                if (len > 0 && data != ' ' && data != '\t') {
+                    head.add(new String(line, 0, len, StandardCharsets.UTF_8));
+                    len = 0;
+                }
+                continue;
+            }
+            line = LiveHead.append(line, len, data, head.size() + 1);
+            len += 1;
+            data = bytes.next();
+        }
+        return head;
+    }
+
+    /**
+     * Make sure the next byte is LF.
+     * @param bytes Bytes of the head
+     * @param line Bytes of the current line
+     * @param len How many bytes of the line are taken
+     * @param position Number of the line
+     * @throws IOException If it is not LF
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static void lineFeed(final HeadBytes bytes, final byte[] line,
+        final int len, final int position) throws IOException {
+        if (bytes.read() != '\n') {
+            throw new HttpException(
+                HttpURLConnection.HTTP_BAD_REQUEST,
+                new UncheckedText(
+                    new FormattedText(
+                        "there is no LF after CR in header, line #%d: \"%s\"",
+                        position,
+                        new String(line, 0, len, StandardCharsets.UTF_8)
+                    )
+                ).asString()
+            );
+        }
+    }
+
+    /**
+     * Validate the byte and append it to the line.
+     * @param line Bytes of the current line
+     * @param len How many bytes of the line are taken
+     * @param data The byte to append
+     * @param position Number of the line
+     * @return The line, which is a new array if the old one was full
+     * @throws HttpException If the byte is illegal in the head
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static byte[] append(final byte[] line, final int len,
+        final int data, final int position) throws HttpException {
+        if ((data > 0x7F || data < 0x20) && data != '\t') {
+            throw new HttpException(
+                HttpURLConnection.HTTP_BAD_REQUEST,
+                new UncheckedText(
+                    new FormattedText(
+                        "illegal character 0x%02X in HTTP header line #%d: \"%s\"",
+                        data,
+                        position,
+                        new String(line, 0, len, StandardCharsets.UTF_8)
+                    )
+                ).asString()
+            );
+        }
+        final byte[] target;
+        if (len == line.length) {
+            target = Arrays.copyOf(line, len << 1);
+        } else {
+            target = line;
+        }
+        target[len] = (byte) data;
+        return target;
+    }
+}
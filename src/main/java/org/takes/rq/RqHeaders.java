@@ -7,9 +7,7 @@ package org.takes.rq;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -17,8 +15,6 @@ import java.util.Set;
 import lombok.EqualsAndHashCode;
 import org.cactoos.text.FormattedText;
 import org.cactoos.text.Lowered;
-import org.cactoos.text.TextOf;
-import org.cactoos.text.Trimmed;
 import org.cactoos.text.UncheckedText;
 import org.takes.HttpException;
 import org.takes.Request;
@@ -109,44 +105,7 @@ public interface RqHeaders extends Request {
         }
 
         private Map<String, List<String>> map() throws IOException {
-            final Iterator<String> head = this.head().iterator();
-            if (!head.hasNext()) {
-                throw new HttpException(
-                    HttpURLConnection.HTTP_BAD_REQUEST,
-                    "A valid request must contain at least one line in the head"
-                );
-            }
-            head.next();
-            final Map<String, List<String>> map = new HashMap<>(0);
-            int pos = 1;
-            while (head.hasNext()) {
-                final String line = head.next();
-                final String[] parts = line.split(":", 2);
-                if (parts.length < 2) {
-                    throw new HttpException(
-                        HttpURLConnection.HTTP_BAD_REQUEST,
-                        new UncheckedText(
-                            new FormattedText(
-                                "Invalid HTTP header on line #%d: \"%s\"",
-                                pos, line
-                            )
-                        ).asString()
-                    );
-                }
-                final String key = new UncheckedText(
-                    new Lowered(new Trimmed(new TextOf(parts[0])))
-                ).asString();
-                if (!map.containsKey(key)) {
-                    map.put(key, new ArrayList<>(0));
-                }
-                map.get(key).add(
-                    new UncheckedText(
-                        new Trimmed(new TextOf(parts[1]))
-                    ).asString()
-                );
-                pos += 1;
-            }
-            return map;
+            return new HeadIndex(this).map();
         }
     }
 
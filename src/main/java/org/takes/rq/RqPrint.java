@@ -6,7 +6,6 @@ package org.takes.rq;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
 import lombok.EqualsAndHashCode;
@@ -19,6 +18,7 @@ import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.Sticky;
 import org.cactoos.text.TextOf;
 import org.takes.Request;
+import org.takes.misc.Buffers;
 
 /**
  * Request decorator that provides text representation and printing capabilities.
@@ -128,17 +128,10 @@ public final class RqPrint extends RqWrap implements Text {
      * @param output Output stream to print to
      * @throws IOException If fails
      */
-    @SuppressWarnings("PMD.CloseResource")
     public void printBody(final OutputStream output) throws IOException {
-        final InputStream input = new RqChunk(new RqLengthAware(this)).body();
-        final byte[] buf = new byte[4096];
-        while (true) {
-            final int bytes = input.read(buf);
-            if (bytes < 0) {
-                break;
-            }
-            output.write(buf, 0, bytes);
-        }
+        new Buffers().copy(
+            new RqChunk(new RqLengthAware(this)).body(), output
+        );
     }
 
     @Override
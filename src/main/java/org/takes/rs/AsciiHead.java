@@ -0,0 +1,281 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+import org.takes.misc.Buffers;
+
+/**
+ * Head of a response, printed as ASCII bytes.
+ *
+ * <p>Every line is checked, without regular expressions, and its
+ * characters go straight into a buffer, which is written into the
+ * stream at once, without a {@link java.io.Writer}. A valid line of
+ * a head is always ASCII, so nothing has to be encoded. Status lines
+ * seen before, like {@code HTTP/1.1 200 OK}, are kept with their
+ * bytes, and are neither checked nor copied again.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class AsciiHead {
+
+    /**
+     * Syntax of the first line, for messages.
+     */
+    private static final String FIRST = "HTTP/1\\.1 \\d{3} [a-zA-Z- ]+";
+
+    /**
+     * Syntax of all other lines, for messages.
+     */
+    private static final String OTHERS = "[a-zA-Z0-9\\-]+:\\p{Print}+";
+
+    /**
+     * Prefix of the first line.
+     */
+    private static final String VERSION = "HTTP/1.1 ";
+
+    /**
+     * Maximum of status lines to keep.
+     */
+    private static final int MAX = 64;
+
+    /**
+     * Status lines seen, with their bytes and the end of line.
+     */
+    private static final Map<String, byte[]> STATUSES =
+        new ConcurrentHashMap<>(AsciiHead.MAX);
+
+    /**
+     * Lines of the head.
+     */
+    private final Iterable<String> lines;
+
+    /**
+     * Ctor.
+     * @param head Lines of the head
+     */
+    AsciiHead(final Iterable<String> head) {
+        this.lines = head;
+    }
+
+    /**
+     * Print the lines, with the empty line at the end.
+     * @param output Output to print into
+     * @throws IOException If fails
+     */
+    void print(final OutputStream output) throws IOException {
+        final Buffers buffers = new Buffers();
+        final byte[] buf = buffers.take();
+        try {
+            int pos = 0;
+            int num = 0;
+            for (final String line : this.lines) {
+                ++num;
+                if (num == 1) {
+                    pos = AsciiHead.put(
+                        AsciiHead.status(line), buf, pos, output
+                    );
+                } else {
+                    if (!AsciiHead.header(line)) {
+                        throw new IllegalArgumentException(
+                            new UncheckedText(
+                                new FormattedText(
+                                    "Header line #%d of HTTP response \"%s\" doesn't match \"%s\" regular expression, but it should, according to RFC 7230",
+                                    num, line, AsciiHead.OTHERS
+                                )
+                            ).asString()
+                        );
+                    }
+                    pos = AsciiHead.put(line, buf, pos, output);
+                }
+            }
+            pos = AsciiHead.put("", buf, pos, output);
+            output.write(buf, 0, pos);
+        } finally {
+            buffers.give(buf);
+        }
+    }
+
+    /**
+     * Is it a valid header line?
+     *
+     * <p>It is the same as {@code [a-zA-Z0-9\-]+:\p{Print}+}.
+     *
+     * @param line The line
+     * @return TRUE if it is
+     */
+    static boolean header(final CharSequence line) {
+        final int len = line.length();
+        int idx = 0;
+        while (idx < len && AsciiHead.named(line.charAt(idx))) {
+            ++idx;
+        }
+        boolean valid = idx > 0 && idx < len - 1 && line.charAt(idx) == ':';
+        for (++idx; valid && idx < len; ++idx) {
+            final char chr = line.charAt(idx);
+            valid = chr >= ' ' && chr <= '~';
+        }
+        return valid;
+    }
+
+    /**
+     * Bytes of the status line, from the cache or checked now.
+     * @param line The line
+     * @return Bytes, with the end of line
+     */
+    private static byte[] status(final String line) {
+        byte[] bytes = AsciiHead.STATUSES.get(line);
+        if (bytes == null) {
+            if (!AsciiHead.valid(line)) {
+                throw new IllegalArgumentException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "First line of HTTP response \"%s\" doesn't match \"%s\" regular expression, but it should, according to RFC 7230",
+                            line, AsciiHead.FIRST
+                        )
+                    ).asString()
+                );
+            }
+            bytes = new byte[line.length() + 2];
+            AsciiHead.put(line, bytes, 0);
+            if (AsciiHead.STATUSES.size() < AsciiHead.MAX) {
+                AsciiHead.STATUSES.put(line, bytes);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Is it a valid status line?
+     *
+     * <p>It is the same as {@code HTTP/1\.1 \d{3} [a-zA-Z- ]+}.
+     *
+     * @param line The line
+     * @return TRUE if it is
+     */
+    private static boolean valid(final String line) {
+        final int start = AsciiHead.VERSION.length();
+        boolean valid = line.length() > start + 4
+            && line.startsWith(AsciiHead.VERSION);
+        for (int idx = start; valid && idx < line.length(); ++idx) {
+            valid = AsciiHead.fits(line.charAt(idx), idx - start);
+        }
+        return valid;
+    }
+
+    /**
+     * Can the character be in the status line, after the version?
+     * @param chr Character
+     * @param pos Position after the version
+     * @return TRUE if it can
+     */
+    private static boolean fits(final char chr, final int pos) {
+        final boolean fits;
+        if (pos < 3) {
+            fits = chr >= '0' && chr <= '9';
+        } else if (pos == 3) {
+            fits = chr == ' ';
+        } else {
+            fits = AsciiHead.ascii(chr) && Character.isLetter(chr)
+                || chr == '-' || chr == ' ';
+        }
+        return fits;
+    }
+
+    /**
+     * Can the character be in the name of a header?
+     * @param chr Character
+     * @return TRUE if it can
+     */
+    private static boolean named(final char chr) {
+        return AsciiHead.ascii(chr) && Character.isLetterOrDigit(chr)
+            || chr == '-';
+    }
+
+    /**
+     * Is it an ASCII character?
+     * @param chr Character
+     * @return TRUE if it is
+     */
+    private static boolean ascii(final char chr) {
+        return chr < 128;
+    }
+
+    /**
+     * Put the bytes into the buffer, writing the buffer into the output
+     * when it is full.
+     * @param bytes Bytes
+     * @param buf Buffer
+     * @param pos Position in the buffer
+     * @param output Output
+     * @return New position in the buffer
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static int put(final byte[] bytes, final byte[] buf,
+        final int pos, final OutputStream output) throws IOException {
+        int next = pos;
+        if (next + bytes.length > buf.length) {
+            output.write(buf, 0, next);
+            next = 0;
+        }
+        if (bytes.length > buf.length) {
+            output.write(bytes);
+        } else {
+            System.arraycopy(bytes, 0, buf, next, bytes.length);
+            next += bytes.length;
+        }
+        return next;
+    }
+
+    /**
+     * Put the line and the end of line into the buffer, writing the buffer
+     * into the output when it is full.
+     * @param line ASCII line
+     * @param buf Buffer
+     * @param pos Position in the buffer
+     * @param output Output
+     * @return New position in the buffer
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static int put(final String line, final byte[] buf,
+        final int pos, final OutputStream output) throws IOException {
+        final int next;
+        if (pos + line.length() + 2 <= buf.length) {
+            next = AsciiHead.put(line, buf, pos);
+        } else {
+            final byte[] bytes = new byte[line.length() + 2];
+            AsciiHead.put(line, bytes, 0);
+            next = AsciiHead.put(bytes, buf, pos, output);
+        }
+        return next;
+    }
+
+    /**
+     * Put the line and the end of line into the array, which is big enough.
+     * @param line ASCII line
+     * @param bytes Array
+     * @param pos Position in the array
+     * @return New position in the array
+     */
+    private static int put(final String line, final byte[] bytes,
+        final int pos) {
+        final int len = line.length();
+        for (int idx = 0; idx < len; ++idx) {
+            bytes[pos + idx] = (byte) line.charAt(idx);
+        }
+        bytes[pos + len] = '\r';
+        bytes[pos + len + 1] = '\n';
+        return pos + len + 2;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * Buffer to render a body into, which becomes the body without copying.
+ *
+ * <p>Unlike {@link ByteArrayOutputStream#toByteArray()}, the stream
+ * reads the bytes right from the buffer, so nothing must be written
+ * after it is taken.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class BodyBuffer extends ByteArrayOutputStream {
+
+    /**
+     * Ctor.
+     */
+    BodyBuffer() {
+        super(4096);
+    }
+
+    /**
+     * All bytes written so far, as a stream.
+     * @return Stream
+     */
+    InputStream stream() {
+        return new ByteArrayInputStream(this.buf, 0, this.count);
+    }
+}
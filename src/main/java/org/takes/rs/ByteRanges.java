@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.takes.misc.Opt;
+
+/**
+ * Byte ranges of the {@code Range} header, resolved against the length
+ * of a body, as in RFC 7233.
+ *
+ * <p>Ranges are sorted and those which overlap or touch are merged, so
+ * the body may be read once, from the start to the end. Ranges that
+ * start after the end of the body are dropped.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class ByteRanges {
+
+    /**
+     * One range, with no more than 18 digits in a number, so it fits
+     * into {@code long}.
+     */
+    private static final Pattern RANGE = Pattern.compile(
+        "\\s*(\\d{0,18})\\s*-\\s*(\\d{0,18})\\s*"
+    );
+
+    /**
+     * Maximum number of ranges in the header, to ignore abusive ones.
+     */
+    private static final int MAX = 64;
+
+    /**
+     * Value of the header.
+     */
+    private final String spec;
+
+    /**
+     * Length of the body.
+     */
+    private final long length;
+
+    /**
+     * Ctor.
+     * @param header Value of the {@code Range} header
+     * @param len Length of the body
+     */
+    ByteRanges(final String header, final long len) {
+        this.spec = header;
+        this.length = len;
+    }
+
+    /**
+     * Ranges, as first and last positions, inclusive.
+     * @return Ranges, an empty list if none of them is satisfiable,
+     *  or nothing if the header must be ignored
+     */
+    Opt<List<long[]>> ranges() {
+        final String[] parts = this.spec.split("=", 2);
+        final List<long[]> ranges = new ArrayList<>(1);
+        boolean valid = parts.length == 2
+            && "bytes".equals(parts[0].trim().toLowerCase(Locale.ENGLISH));
+        if (valid) {
+            final String[] items = parts[1].split(",");
+            valid = items.length <= ByteRanges.MAX;
+            for (int idx = 0; valid && idx < items.length; ++idx) {
+                valid = this.parse(items[idx], ranges);
+            }
+        }
+        final Opt<List<long[]>> result;
+        if (valid) {
+            result = new Opt.Single<>(ByteRanges.merged(ranges));
+        } else {
+            result = new Opt.Empty<>();
+        }
+        return result;
+    }
+
+    /**
+     * Parse one range and add it to the list, if it is satisfiable.
+     * @param item The range, like {@code 0-499}, {@code 500-} or
+     *  {@code -500}
+     * @param ranges Ranges found so far
+     * @return FALSE if the range is not valid
+     */
+    private boolean parse(final String item, final List<long[]> ranges) {
+        final Matcher matcher = ByteRanges.RANGE.matcher(item);
+        boolean valid = matcher.matches();
+        if (valid && matcher.group(1).isEmpty()) {
+            valid = this.suffix(matcher.group(2), ranges);
+        } else if (valid) {
+            valid = this.span(matcher.group(1), matcher.group(2), ranges);
+        }
+        return valid;
+    }
+
+    /**
+     * Add the range at the end of the body, if it is satisfiable.
+     * @param last How many bytes at the end
+     * @param ranges Ranges found so far
+     * @return FALSE if the range is not valid
+     */
+    private boolean suffix(final String last, final List<long[]> ranges) {
+        final boolean valid = !last.isEmpty();
+        if (valid && this.length > 0L && Long.parseLong(last) > 0L) {
+            ranges.add(
+                new long[]{
+                    Math.max(0L, this.length - Long.parseLong(last)),
+                    this.length - 1L,
+                }
+            );
+        }
+        return valid;
+    }
+
+    /**
+     * Add the range from the first position, if it is satisfiable.
+     * @param first First position
+     * @param last Last position, may be empty
+     * @param ranges Ranges found so far
+     * @return FALSE if the range is not valid
+     */
+    private boolean span(final String first, final String last,
+        final List<long[]> ranges) {
+        final long start = Long.parseLong(first);
+        final long end = ByteRanges.number(last, Long.MAX_VALUE);
+        final boolean valid = start <= end;
+        if (valid && start < this.length) {
+            ranges.add(new long[]{start, Math.min(end, this.length - 1L)});
+        }
+        return valid;
+    }
+
+    /**
+     * Sort ranges and merge those which overlap or touch.
+     * @param ranges Ranges
+     * @return Merged ranges
+     */
+    private static List<long[]> merged(final List<long[]> ranges) {
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        final List<long[]> merged = new ArrayList<>(ranges.size());
+        for (final long[] range : ranges) {
+            final int last = merged.size() - 1;
+            if (last >= 0 && range[0] <= merged.get(last)[1] + 1L) {
+                merged.get(last)[1] = Math.max(merged.get(last)[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Parse a number, if it is there.
+     * @param digits Digits
+     * @param def Default value, if there are no digits
+     * @return The number
+     */
+    private static long number(final String digits, final long def) {
+        final long num;
+        if (digits.isEmpty()) {
+            num = def;
+        } else {
+            num = Long.parseLong(digits);
+        }
+        return num;
+    }
+}
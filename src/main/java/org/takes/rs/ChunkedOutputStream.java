@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Output stream that encodes HTTP chunked transfer encoding.
+ *
+ * <p>Every non-empty write goes out as one chunk: its size in
+ * hexadecimal format, CRLF, the bytes and CRLF again. When the stream
+ * is closed, the last zero-length chunk is written, but the wrapped
+ * stream stays open, because the connection may be used for the next
+ * response.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9112#section-7.1">Chunked Transfer Coding</a>
+ * @since 2.0
+ */
+final class ChunkedOutputStream extends OutputStream {
+
+    /**
+     * Line end.
+     */
+    private static final byte[] EOL = {'\r', '\n'};
+
+    /**
+     * The last chunk, with an empty trailer.
+     */
+    private static final byte[] LAST = {'0', '\r', '\n', '\r', '\n'};
+
+    /**
+     * The output stream that we're wrapping.
+     */
+    private final OutputStream origin;
+
+    /**
+     * Ctor.
+     * @param stream Output stream to write chunks into
+     */
+    ChunkedOutputStream(final OutputStream stream) {
+        super();
+        this.origin = stream;
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (len > 0) {
+            this.origin.write(
+                Integer.toHexString(len).getBytes(StandardCharsets.US_ASCII)
+            );
+            this.origin.write(ChunkedOutputStream.EOL);
+            this.origin.write(buf, off, len);
+            this.origin.write(ChunkedOutputStream.EOL);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.write(ChunkedOutputStream.LAST);
+        this.origin.flush();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Content of a file, which may be sent without reading it.
+ *
+ * <p>It is an ordinary stream for those who read it, while
+ * {@link RsPrint} sends what is left of the file into a channel
+ * by {@link FileChannel#transferTo(long, long, WritableByteChannel)}.
+ * If the channel is a socket, the operating system copies the bytes
+ * from the file right into it, without the heap. Skipped bytes are
+ * not read either, the position in the file is moved instead.
+ * Exactly the declared length of the body is transferred, even if
+ * the file grows, and it fails if the file gets shorter.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class FileBody extends FilterInputStream {
+
+    /**
+     * The file.
+     */
+    private final FileChannel file;
+
+    /**
+     * Declared length of the body, in bytes.
+     */
+    private final long length;
+
+    /**
+     * Ctor.
+     * @param channel Channel of the file, open for reading
+     * @param size Declared length of the body, in bytes
+     */
+    FileBody(final FileChannel channel, final long size) {
+        super(Channels.newInputStream(channel));
+        this.file = channel;
+        this.length = size;
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        final long pos = this.file.position();
+        final long step = Math.max(0L, Math.min(num, this.file.size() - pos));
+        this.file.position(pos + step);
+        return step;
+    }
+
+    /**
+     * Send the rest of the body into the channel.
+     * @param target The channel
+     * @throws IOException If fails or the file is shorter than declared
+     */
+    void transfer(final WritableByteChannel target) throws IOException {
+        long pos = this.file.position();
+        while (pos < this.length) {
+            final long sent = this.file.transferTo(
+                pos, this.length - pos, target
+            );
+            if (sent <= 0L) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "The file ended after %d bytes of %d declared",
+                            pos, this.length
+                        )
+                    ).asString()
+                );
+            }
+            pos += sent;
+        }
+        this.file.position(pos);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Stream of bytes compressed with GZIP on the fly, as they are read.
+ *
+ * <p>Only one buffer of the original stream and one buffer of compressed
+ * bytes are kept in memory at any moment, no matter how big the
+ * original stream is. The format is the same as the one of
+ * {@link java.util.zip.GZIPOutputStream}, according to RFC 1952.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class GzipStream extends InputStream {
+
+    /**
+     * GZIP header: magic, deflate, no flags, no time, no extra, unknown OS.
+     */
+    private static final byte[] HEADER = {
+        (byte) 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff,
+    };
+
+    /**
+     * Size of the GZIP trailer: CRC-32 and the length of original data.
+     */
+    private static final int TRAILER = 8;
+
+    /**
+     * Original stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * Compressor.
+     */
+    private final Deflater deflater;
+
+    /**
+     * Checksum of original data.
+     */
+    private final CRC32 crc;
+
+    /**
+     * Bytes read from the original stream.
+     */
+    private final byte[] input;
+
+    /**
+     * Compressed bytes, ready to be read.
+     */
+    private final byte[] output;
+
+    /**
+     * Position of the next byte to read in the output.
+     */
+    private int pos;
+
+    /**
+     * How many bytes are there in the output.
+     */
+    private int limit;
+
+    /**
+     * Is the header already in the output?
+     */
+    private boolean started;
+
+    /**
+     * Is the trailer already in the output?
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param stream Original stream
+     * @param level Compression level, from 0 to 9
+     * @param size Size of buffers
+     */
+    GzipStream(final InputStream stream, final int level, final int size) {
+        super();
+        this.origin = stream;
+        this.deflater = new Deflater(level, true);
+        this.crc = new CRC32();
+        this.input = new byte[size];
+        this.output = new byte[size + GzipStream.HEADER.length];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] one = new byte[1];
+        final int data;
+        if (this.read(one, 0, 1) < 0) {
+            data = -1;
+        } else {
+            data = one[0] & 0xFF;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        while (this.pos == this.limit && !this.done) {
+            this.fill();
+        }
+        final int read;
+        if (this.pos == this.limit) {
+            read = -1;
+        } else {
+            read = Math.min(len, this.limit - this.pos);
+            System.arraycopy(this.output, this.pos, buf, off, read);
+            this.pos += read;
+        }
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return this.limit - this.pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.deflater.end();
+        this.origin.close();
+    }
+
+    /**
+     * Put the next portion of compressed bytes into the output.
+     * @throws IOException If fails
+     */
+    private void fill() throws IOException {
+        this.pos = 0;
+        this.limit = 0;
+        if (this.started) {
+            this.feed();
+        } else {
+            System.arraycopy(
+                GzipStream.HEADER, 0, this.output, 0, GzipStream.HEADER.length
+            );
+            this.limit = GzipStream.HEADER.length;
+            this.started = true;
+        }
+        if (this.deflater.finished()) {
+            this.seal();
+        } else {
+            this.limit += this.deflater.deflate(
+                this.output, this.limit, this.output.length - this.limit
+            );
+        }
+    }
+
+    /**
+     * Give the compressor the next portion of the original stream,
+     * if it needs one.
+     * @throws IOException If fails
+     */
+    private void feed() throws IOException {
+        if (this.deflater.needsInput() && !this.deflater.finished()) {
+            final int read = this.origin.read(this.input);
+            if (read < 0) {
+                this.deflater.finish();
+            } else {
+                this.crc.update(this.input, 0, read);
+                this.deflater.setInput(this.input, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Put the trailer into the output.
+     */
+    private void seal() {
+        final long value = this.crc.getValue();
+        final long total = this.deflater.getBytesRead();
+        for (int idx = 0; idx < GzipStream.TRAILER / 2; ++idx) {
+            this.output[idx] = (byte) (value >> (idx << 3));
+            this.output[idx + GzipStream.TRAILER / 2] =
+                (byte) (total >> (idx << 3));
+        }
+        this.limit = GzipStream.TRAILER;
+        this.done = true;
+    }
+}
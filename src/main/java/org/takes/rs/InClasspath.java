@@ -4,21 +4,30 @@
  */
 package org.takes.rs;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URL;
 import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.URIResolver;
 import javax.xml.transform.stream.StreamSource;
+import lombok.EqualsAndHashCode;
+import org.cactoos.io.InputOf;
 import org.cactoos.io.ReaderOf;
 import org.cactoos.text.FormattedText;
 import org.cactoos.text.UncheckedText;
 
 /**
  * Classpath URI resolver.
+ *
+ * <p>The source it returns knows its system ID and opens the resource
+ * only when it is read, so that {@link XslCache} can skip it. All
+ * instances are equal, so they share the transformer factory and
+ * the compiled stylesheets of {@link RsXslt}.
+ *
  * @since 0.1
  */
+@EqualsAndHashCode
 final class InClasspath implements URIResolver {
 
     @Override
@@ -30,11 +39,11 @@ final class InClasspath implements URIResolver {
         } else {
             uri = URI.create(base).resolve(href);
         }
-        final InputStream input;
+        final URL url;
         if (uri.isAbsolute() && !"file".equals(uri.getScheme())) {
             try {
-                input = uri.toURL().openStream();
-            } catch (final IOException ex) {
+                url = uri.toURL();
+            } catch (final MalformedURLException ex) {
                 throw new IllegalStateException(
                     new UncheckedText(
                         new FormattedText(
@@ -45,8 +54,8 @@ final class InClasspath implements URIResolver {
                 );
             }
         } else {
-            input = this.getClass().getResourceAsStream(uri.getPath());
-            if (input == null) {
+            url = this.getClass().getResource(uri.getPath());
+            if (url == null) {
                 throw new TransformerException(
                     new UncheckedText(
                         new FormattedText(
@@ -58,7 +67,8 @@ final class InClasspath implements URIResolver {
             }
         }
         return new StreamSource(
-            new ReaderOf(input)
+            new ReaderOf(new InputOf(url)),
+            uri.toString()
         );
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parts of a body, one after another, read from the same stream.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class RangeBody extends SequenceInputStream {
+
+    /**
+     * The stream all slices are read from.
+     */
+    private final InputStream origin;
+
+    /**
+     * Ctor.
+     * @param input The stream all slices are read from
+     * @param parts Parts, slices of the stream and bytes between them
+     */
+    RangeBody(final InputStream input, final List<InputStream> parts) {
+        super(Collections.enumeration(parts));
+        this.origin = input;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            this.origin.close();
+        }
+    }
+}
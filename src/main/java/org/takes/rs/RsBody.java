@@ -8,11 +8,13 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Input;
 import org.cactoos.io.InputOf;
 import org.cactoos.scalar.IoChecked;
@@ -36,6 +38,7 @@ import org.cactoos.text.UncheckedText;
  * <li>Url - content from URL sources</li>
  * <li>ByteArray - content from byte arrays</li>
  * <li>Stream - content from input streams</li>
+ * <li>Disk - content of a file, which may be sent without copying</li>
  * <li>TempFile - content stored in temporary files for large data</li>
  * </ul>
  *
@@ -48,11 +51,11 @@ interface RsBody extends Input {
 
     /**
      * Gives the length of the stream.
-     * @return The length of the stream
+     * @return The length of the stream, or -1 if it is not known
      * @throws IOException in case the length of the stream could not be
      *  retrieved
      */
-    int length() throws IOException;
+    long length() throws IOException;
 
     /**
      * Content of a body based on an {@link java.net.URL}.
@@ -65,12 +68,30 @@ interface RsBody extends Input {
          */
         private final java.net.URL source;
 
+        /**
+         * The length of the content, or a negative number if unknown.
+         */
+        private final long size;
+
         /**
          * Constructs an {@code URL} with the specified {@link java.net.URL}.
          * @param content The {@link java.net.URL} of the content
          */
         Url(final java.net.URL content) {
+            this(content, -1L);
+        }
+
+        /**
+         * Constructs an {@code URL} with the specified {@link java.net.URL}
+         * and the length of its content, if it is known in advance, so
+         * that the content is not opened just to find out its length.
+         * @param content The {@link java.net.URL} of the content
+         * @param length The length, or a negative number if unknown
+         * @since 2.0
+         */
+        Url(final java.net.URL content, final long length) {
             this.source = content;
+            this.size = length;
         }
 
         @Override
@@ -79,10 +100,17 @@ interface RsBody extends Input {
         }
 
         @Override
-        public int length() throws IOException {
-            try (InputStream input = this.source.openStream()) {
-                return input.available();
+        public long length() throws IOException {
+            long length = this.size;
+            if (length < 0L) {
+                final URLConnection conn = this.source.openConnection();
+                try {
+                    length = conn.getContentLengthLong();
+                } finally {
+                    conn.getInputStream().close();
+                }
             }
+            return length;
         }
     }
 
@@ -113,7 +141,7 @@ interface RsBody extends Input {
         }
 
         @Override
-        public int length() {
+        public long length() {
             return this.bytes.value().length;
         }
     }
@@ -155,7 +183,7 @@ interface RsBody extends Input {
         }
 
         @Override
-        public int length() {
+        public long length() {
             return this.bytes().length;
         }
 
@@ -171,6 +199,12 @@ interface RsBody extends Input {
 
     /**
      * The content of the body based on an {@link InputStream}.
+     *
+     * <p>The length of such a body is not known until the stream
+     * is read to the end, so {@link #length()} always returns -1.
+     * {@link InputStream#available()} can't be used instead, since it
+     * only tells how many bytes may be read without blocking.
+     *
      * @since 0.32
      */
     final class Stream implements RsBody {
@@ -180,36 +214,69 @@ interface RsBody extends Input {
          */
         private final InputStream input;
 
-        /**
-         * The length of the stream.
-         */
-        private final AtomicInteger len;
-
         /**
          * Constructs an {@code Stream} with the specified {@link InputStream}.
          * @param input The content of the body as stream
          */
         Stream(final InputStream input) {
             this.input = input;
-            this.len = new AtomicInteger(-1);
         }
 
         @Override
-        public InputStream stream() throws IOException {
-            this.estimate();
+        public InputStream stream() {
             return this.input;
         }
 
         @Override
-        public int length() throws IOException {
-            this.estimate();
-            return this.len.get();
+        public long length() {
+            return -1;
         }
+    }
 
-        private void estimate() throws IOException {
-            if (this.len.get() == -1) {
-                this.len.compareAndSet(-1, this.input.available());
-            }
+    /**
+     * Content of a body based on a file.
+     *
+     * <p>The length is the size of the file, measured once, so that
+     * the stream never gives more or fewer bytes than it, even if the
+     * file changes. The stream is a
+     * {@link FileBody}, which {@link RsPrint} sends into the channel of
+     * the socket straight from the file, without copying its bytes into
+     * the heap.
+     *
+     * @since 2.0
+     */
+    final class Disk implements RsBody {
+
+        /**
+         * The file.
+         */
+        private final File file;
+
+        /**
+         * Size of the file, measured once.
+         */
+        private final Unchecked<Long> size;
+
+        /**
+         * Constructs a {@code Disk} with the specified {@link File}.
+         * @param content The file with the content of the body
+         */
+        Disk(final File content) {
+            this.file = content;
+            this.size = new Unchecked<>(new Sticky<>(content::length));
+        }
+
+        @Override
+        public InputStream stream() throws IOException {
+            return new FileBody(
+                FileChannel.open(this.file.toPath(), StandardOpenOption.READ),
+                this.length()
+            );
+        }
+
+        @Override
+        public long length() {
+            return this.size.value();
         }
     }
 
@@ -272,8 +339,8 @@ interface RsBody extends Input {
         }
 
         @Override
-        public int length() throws IOException {
-            return (int) this.file().length();
+        public long length() throws IOException {
+            return this.file().length();
         }
 
         @SuppressWarnings("PMD.AvoidSynchronizedStatement")
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.takes.Response;
+
+/**
+ * Response decorator, with chunked transfer encoding.
+ *
+ * <p>Use it when the length of the body is not known in advance,
+ * for example when it is produced on the fly:
+ *
+ * <pre> new RsChunked(
+ *   new RsWithBody(new FileInputStream("export.csv"))
+ * );</pre>
+ *
+ * <p>The decorator drops {@code Content-Length} and adds
+ * {@code Transfer-Encoding: chunked} to the head, while the body stays
+ * as is. {@link RsPrint} splits it into chunks when the response
+ * is printed, so nothing has to be read in advance.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9112#section-7.1">Chunked Transfer Coding</a>
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class RsChunked extends RsWrap {
+
+    /**
+     * Ctor.
+     * @param res Original response
+     */
+    public RsChunked(final Response res) {
+        super(
+            new RsWithHeader(
+                new RsWithoutHeader(
+                    new RsWithoutHeader(res, "Content-Length"),
+                    "Transfer-Encoding"
+                ),
+                "Transfer-Encoding",
+                "chunked"
+            )
+        );
+    }
+}
@@ -7,13 +7,13 @@ package org.takes.rs;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Deflater;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.takes.Response;
+import org.takes.misc.Buffers;
 
 /**
  * Response decorator that compresses the response body using GZIP compression.
@@ -24,6 +24,19 @@ import org.takes.Response;
  * and cached for subsequent requests. This can significantly reduce
  * bandwidth usage for text-based responses.
  *
+ * <p>By default, the entire body is compressed in memory, in order to
+ * know its length. If a buffer size is given, the body is compressed
+ * on the fly, while it is being printed, and only one buffer is kept
+ * in memory. The length is unknown then, so the {@code Content-Length}
+ * header is dropped and the response goes out with
+ * {@code Transfer-Encoding: chunked}:
+ *
+ * <pre> new RsGzip(
+ *   new RsWithBody(new FileInputStream("export.csv")),
+ *   Deflater.BEST_SPEED,
+ *   16 * 1024
+ * );</pre>
+ *
  * <p>The class is immutable and thread-safe.
  *
  * @since 0.10
@@ -32,6 +45,11 @@ import org.takes.Response;
 @EqualsAndHashCode
 public final class RsGzip implements Response {
 
+    /**
+     * Size of the buffer, when the body is compressed in memory.
+     */
+    private static final int BUFFER = 4096;
+
     /**
      * Original response.
      */
@@ -42,13 +60,37 @@ public final class RsGzip implements Response {
      */
     private final List<Response> zipped;
 
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Size of the buffer for streaming, or zero to compress in memory.
+     */
+    private final int size;
+
     /**
      * Ctor.
      * @param res Original response
      */
     public RsGzip(final Response res) {
+        this(res, Deflater.DEFAULT_COMPRESSION, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param res Original response
+     * @param lvl Compression level, from 0 to 9, or -1 for the default one
+     * @param bytes Size of the buffer for compression on the fly,
+     *  or zero to compress the entire body in memory
+     * @since 2.0
+     */
+    public RsGzip(final Response res, final int lvl, final int bytes) {
         this.zipped = new CopyOnWriteArrayList<>();
         this.origin = res;
+        this.level = lvl;
+        this.size = bytes;
     }
 
     @Override
@@ -63,34 +105,47 @@ public final class RsGzip implements Response {
 
     private Response make() throws IOException {
         if (this.zipped.isEmpty()) {
-            this.zipped.add(
-                new RsWithHeader(
-                    new RsWithBody(
-                        this.origin,
-                        RsGzip.gzip(this.origin.body())
-                    ),
-                    "Content-Encoding",
-                    "gzip"
-                )
-            );
+            final Response res;
+            if (this.size > 0) {
+                res = this.streamed();
+            } else {
+                res = this.buffered();
+            }
+            this.zipped.add(res);
         }
         return this.zipped.get(0);
     }
 
+    private Response buffered() throws IOException {
+        return new RsWithHeader(
+            new RsWithBody(
+                this.origin,
+                RsGzip.gzip(
+                    new GzipStream(
+                        this.origin.body(), this.level, RsGzip.BUFFER
+                    )
+                )
+            ),
+            "Content-Encoding",
+            "gzip"
+        );
+    }
+
+    private Response streamed() throws IOException {
+        return new ResponseOf(
+            new RsWithHeader(
+                new RsChunked(this.origin),
+                "Content-Encoding",
+                "gzip"
+            ).head(),
+            new GzipStream(this.origin.body(), this.level, this.size)
+        );
+    }
+
     private static byte[] gzip(final InputStream input) throws IOException {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        final byte[] buf = new byte[4096];
-        try (
-            InputStream stream = input;
-            OutputStream gzip = new GZIPOutputStream(baos)
-        ) {
-            while (true) {
-                final int len = stream.read(buf);
-                if (len < 0) {
-                    break;
-                }
-                gzip.write(buf, 0, len);
-            }
+        try (InputStream stream = input) {
+            new Buffers().copy(stream, baos);
         }
         return baos.toByteArray();
     }
@@ -8,16 +8,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.Text;
-import org.cactoos.text.FormattedText;
-import org.cactoos.text.UncheckedText;
 import org.takes.Response;
+import org.takes.misc.Buffers;
 
 /**
  * Response decorator that provides text representation and printing capabilities.
@@ -28,6 +27,10 @@ import org.takes.Response;
  * output destinations. The implementation validates HTTP format compliance
  * and handles proper CRLF line endings as required by HTTP specification.
  *
+ * <p>If the head contains {@code Transfer-Encoding: chunked}, the body
+ * is printed in chunks by {@link #print(OutputStream)}, while
+ * {@link #printBody(OutputStream)} always prints it as is.
+ *
  * <p>The class is immutable and thread-safe.
  *
  * @since 0.1
@@ -37,17 +40,11 @@ import org.takes.Response;
 public final class RsPrint extends RsWrap implements Text {
 
     /**
-     * Pattern for first line.
-     */
-    private static final Pattern FIRST = Pattern.compile(
-        "HTTP/1\\.1 \\d{3} [a-zA-Z- ]+"
-    );
-
-    /**
-     * Pattern for all other lines in the head.
+     * Pattern for the header of chunked transfer encoding.
      */
-    private static final Pattern OTHERS = Pattern.compile(
-        "[a-zA-Z0-9\\-]+:\\p{Print}+"
+    private static final Pattern ENCODING = Pattern.compile(
+        "transfer-encoding:.*\\bchunked\\s*",
+        Pattern.CASE_INSENSITIVE
     );
 
     /**
@@ -103,50 +100,53 @@ public final class RsPrint extends RsWrap implements Text {
      * @throws IOException If fails
      */
     public void print(final OutputStream output) throws IOException {
-        this.printHead(output);
-        this.printBody(output);
+        this.print(output, Channels.newChannel(output));
     }
 
     /**
-     * Print it into output stream.
+     * Print it into output stream, sending the content of a file straight
+     * into the channel under the stream.
+     *
+     * <p>If the body is a file, like in {@link RsWithBody#RsWithBody(java.io.File)},
+     * and it is not chunked, the stream is flushed and then the file is
+     * transferred into the channel by
+     * {@link java.nio.channels.FileChannel#transferTo(long, long,
+     * WritableByteChannel)}, which is a zero-copy "sendfile" when the
+     * channel is a socket.
+     *
      * @param output Output to print into
+     * @param channel Channel the output writes into
      * @throws IOException If fails
-     * @since 0.10
+     * @since 2.0
      */
-    public void printHead(final OutputStream output) throws IOException {
-        final String eol = new String(
-            new char[]{(char) 13, (char) 10}
-        );
-        final Writer writer =
-            new OutputStreamWriter(output, StandardCharsets.UTF_8);
-        int pos = 0;
-        for (final String line : this.head()) {
-            if (pos == 0 && !RsPrint.FIRST.matcher(line).matches()) {
-                throw new IllegalArgumentException(
-                    new UncheckedText(
-                        new FormattedText(
-                            "First line of HTTP response \"%s\" doesn't match \"%s\" regular expression, but it should, according to RFC 7230",
-                            line, RsPrint.FIRST
-                        )
-                    ).asString()
-                );
+    public void print(final OutputStream output,
+        final WritableByteChannel channel) throws IOException {
+        final Iterable<String> head = this.head();
+        new AsciiHead(head).print(output);
+        if (RsPrint.chunked(head)) {
+            try (OutputStream chunks = new ChunkedOutputStream(output)) {
+                this.printBody(chunks);
             }
-            if (pos > 0 && !RsPrint.OTHERS.matcher(line).matches()) {
-                throw new IllegalArgumentException(
-                    new UncheckedText(
-                        new FormattedText(
-                            "Header line #%d of HTTP response \"%s\" doesn't match \"%s\" regular expression, but it should, according to RFC 7230",
-                            pos + 1, line, RsPrint.OTHERS
-                        )
-                    ).asString()
-                );
+        } else {
+            try (InputStream body = this.body()) {
+                if (body instanceof FileBody) {
+                    output.flush();
+                    ((FileBody) body).transfer(channel);
+                } else {
+                    new Buffers().copy(body, output);
+                }
             }
-            writer.append(line);
-            writer.append(eol);
-            ++pos;
         }
-        writer.append(eol);
-        writer.flush();
+    }
+
+    /**
+     * Print it into output stream.
+     * @param output Output to print into
+     * @throws IOException If fails
+     * @since 0.10
+     */
+    public void printHead(final OutputStream output) throws IOException {
+        new AsciiHead(this.head()).print(output);
     }
 
     /**
@@ -156,14 +156,24 @@ public final class RsPrint extends RsWrap implements Text {
      */
     public void printBody(final OutputStream output) throws IOException {
         try (InputStream body = this.body()) {
-            final byte[] buf = new byte[4096];
-            while (true) {
-                final int bytes = body.read(buf);
-                if (bytes < 0) {
-                    break;
-                }
-                output.write(buf, 0, bytes);
+            new Buffers().copy(body, output);
+        }
+    }
+
+    /**
+     * Is the body going out in chunks, according to the head?
+     * @param head Head of the response
+     * @return TRUE if it must be printed in chunked transfer encoding
+     */
+    private static boolean chunked(final Iterable<String> head) {
+        boolean chunked = false;
+        for (final String line : head) {
+            if (line.regionMatches(true, 0, "transfer-encoding:", 0, 18)
+                && RsPrint.ENCODING.matcher(line).matches()) {
+                chunked = true;
+                break;
             }
         }
+        return chunked;
     }
 }
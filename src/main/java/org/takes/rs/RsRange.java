@@ -0,0 +1,260 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+import org.takes.Response;
+import org.takes.misc.Opt;
+
+/**
+ * Response with only some ranges of the body, as in RFC 7233.
+ *
+ * <p>The ranges are the value of the {@code Range} header of the
+ * request, for example:
+ *
+ * <pre> new RsRange(new RsWithBody(file), "bytes=0-499,1000-")</pre>
+ *
+ * <p>Only a response with status 200 and a {@code Content-Length} can be
+ * cut. It gets {@code Accept-Ranges: bytes} header, and, if the header is
+ * a valid range set, the status 206 with one range in the body or with
+ * many of them in {@code multipart/byteranges}. If none of the ranges
+ * are in the body, the status is 416. If the header is empty or not
+ * valid, the body is sent as is.
+ *
+ * <p>Ranges are sorted and merged, so the body is read once, from the
+ * start to the end, while the bytes between ranges are skipped by
+ * {@link InputStream#skip(long)}. The body of a file, like
+ * in {@link RsWithBody#RsWithBody(java.io.File)}, is not read for that,
+ * it is seeked.
+ *
+ * <p>Use {@link org.takes.tk.TkRange} to cut responses according to
+ * requests.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class RsRange extends RsWrap {
+
+    /**
+     * Status of a response with none of the requested ranges.
+     */
+    private static final int UNSATISFIABLE = 416;
+
+    /**
+     * Content length header.
+     */
+    private static final String LENGTH = "Content-Length";
+
+    /**
+     * Line break.
+     */
+    private static final String EOL = "\r\n";
+
+    /**
+     * Ctor.
+     * @param res Original response
+     * @param ranges Value of the {@code Range} header, may be empty
+     */
+    public RsRange(final Response res, final CharSequence ranges) {
+        this(
+            new IoChecked<>(
+                new Sticky<>(() -> RsRange.cut(res, ranges.toString()))
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param res Response, when it is cut
+     */
+    private RsRange(final IoChecked<Response> res) {
+        super(
+            new ResponseOf(
+                () -> res.value().head(),
+                () -> res.value().body()
+            )
+        );
+    }
+
+    /**
+     * Cut the response, if possible.
+     * @param res Original response
+     * @param spec Value of the {@code Range} header
+     * @return Response
+     * @throws IOException If fails
+     */
+    private static Response cut(final Response res, final String spec)
+        throws IOException {
+        final RsHeaders.Smart headers = new RsHeaders.Smart(res);
+        final String size = headers.single(RsRange.LENGTH, "").trim();
+        final boolean sized = size.matches("\\d{1,18}");
+        final Response cut;
+        if (sized
+            && new RsStatus.Base(res).status() == HttpURLConnection.HTTP_OK) {
+            final long length = Long.parseLong(size);
+            cut = RsRange.cut(
+                new RsWithHeader(res, "Accept-Ranges", "bytes"),
+                headers.single("Content-Type", ""),
+                new ByteRanges(spec, length).ranges(),
+                length
+            );
+        } else {
+            cut = res;
+        }
+        return cut;
+    }
+
+    /**
+     * Cut the response into ranges.
+     * @param res Original response
+     * @param type Content type of the original response, may be empty
+     * @param ranges Ranges, if the header is valid
+     * @param length Length of the original body
+     * @return Response
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static Response cut(final Response res, final String type,
+        final Opt<List<long[]>> ranges, final long length) {
+        final Response cut;
+        if (ranges.has() && ranges.get().isEmpty()) {
+            cut = new RsWithHeaders(
+                new RsWithStatus(
+                    new RsEmpty(), RsRange.UNSATISFIABLE,
+                    "Range Not Satisfiable"
+                ),
+                new StringBuilder("Content-Range: bytes */").append(length),
+                "Content-Length: 0"
+            );
+        } else if (ranges.has()) {
+            cut = RsRange.partial(res, type, ranges.get(), length);
+        } else {
+            cut = res;
+        }
+        return cut;
+    }
+
+    /**
+     * Response with the ranges of the body.
+     *
+     * <p>One range goes as is, with {@code Content-Range} header, while
+     * many of them go as parts of {@code multipart/byteranges}, each with
+     * its own {@code Content-Range}.
+     *
+     * @param res Original response
+     * @param type Content type of the original response, may be empty
+     * @param ranges Ranges, not empty
+     * @param length Length of the original body
+     * @return Response
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static Response partial(final Response res, final String type,
+        final List<long[]> ranges, final long length) {
+        final List<byte[]> heads = new ArrayList<>(ranges.size());
+        final byte[] tail;
+        final Response base;
+        if (ranges.size() == 1) {
+            heads.add(new byte[0]);
+            tail = new byte[0];
+            base = new RsWithHeader(
+                new RsWithoutHeader(res, RsRange.LENGTH),
+                "Content-Range",
+                RsRange.range(ranges.get(0), length)
+            );
+        } else {
+            final String boundary = UUID.randomUUID().toString();
+            for (final long[] range : ranges) {
+                final StringBuilder head = new StringBuilder(0);
+                if (!heads.isEmpty()) {
+                    head.append(RsRange.EOL);
+                }
+                head.append("--").append(boundary).append(RsRange.EOL);
+                if (!type.isEmpty()) {
+                    head.append("Content-Type: ").append(type)
+                        .append(RsRange.EOL);
+                }
+                head.append("Content-Range: ")
+                    .append(RsRange.range(range, length))
+                    .append(RsRange.EOL).append(RsRange.EOL);
+                heads.add(head.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            tail = new StringBuilder(RsRange.EOL).append("--")
+                .append(boundary).append("--").append(RsRange.EOL)
+                .toString().getBytes(StandardCharsets.UTF_8);
+            base = new RsWithHeader(
+                new RsWithoutHeader(
+                    new RsWithoutHeader(res, RsRange.LENGTH), "Content-Type"
+                ),
+                "Content-Type",
+                new StringBuilder("multipart/byteranges; boundary=")
+                    .append(boundary)
+            );
+        }
+        long total = tail.length;
+        for (int idx = 0; idx < ranges.size(); ++idx) {
+            total += heads.get(idx).length + ranges.get(idx)[1]
+                - ranges.get(idx)[0] + 1L;
+        }
+        final Response partial = new RsWithHeader(
+            new RsWithStatus(base, HttpURLConnection.HTTP_PARTIAL),
+            RsRange.LENGTH,
+            Long.toString(total)
+        );
+        return new ResponseOf(
+            partial::head,
+            () -> RsRange.body(res.body(), ranges, heads, tail)
+        );
+    }
+
+    /**
+     * Body with the ranges of the original body.
+     * @param origin Original body
+     * @param ranges Ranges
+     * @param heads Bytes to send before each range
+     * @param tail Bytes to send after all ranges
+     * @return Body
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static InputStream body(final InputStream origin,
+        final List<long[]> ranges, final List<byte[]> heads,
+        final byte[] tail) {
+        final List<InputStream> parts = new ArrayList<>(ranges.size() * 2 + 1);
+        long pos = 0L;
+        for (int idx = 0; idx < ranges.size(); ++idx) {
+            final long[] range = ranges.get(idx);
+            parts.add(new ByteArrayInputStream(heads.get(idx)));
+            parts.add(
+                new Slice(origin, range[0] - pos, range[1] - range[0] + 1L)
+            );
+            pos = range[1] + 1L;
+        }
+        parts.add(new ByteArrayInputStream(tail));
+        return new RangeBody(origin, parts);
+    }
+
+    /**
+     * Value of {@code Content-Range} header.
+     * @param range First and last positions
+     * @param length Length of the original body
+     * @return Value
+     */
+    private static String range(final long[] range, final long length) {
+        return new StringBuilder("bytes ").append(range[0]).append('-')
+            .append(range[1]).append('/').append(length).toString();
+    }
+}
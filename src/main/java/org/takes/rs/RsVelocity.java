@@ -4,21 +4,22 @@
  */
 package org.takes.rs;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeInstance;
 import org.cactoos.Scalar;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.IoCheckedBytes;
 import org.cactoos.io.InputStreamOf;
-import org.cactoos.io.ReaderOf;
-import org.cactoos.io.WriterTo;
 
 /**
  * Response decorator that renders Apache Velocity templates.
@@ -41,6 +42,10 @@ import org.cactoos.io.WriterTo;
  *   }
  * }</pre>
  *
+ * <p>There is one engine per template folder, shared by all responses,
+ * and templates are parsed only once, by their content. The result is
+ * rendered right into the buffer the body is read from.
+ *
  * <p>The class is immutable and thread-safe.
  *
  * @since 0.1
@@ -49,6 +54,18 @@ import org.cactoos.io.WriterTo;
 @EqualsAndHashCode(callSuper = true)
 public final class RsVelocity extends RsWrap {
 
+    /**
+     * Engines, by template folder.
+     */
+    private static final Map<String, RuntimeInstance> ENGINES =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Parsed templates.
+     */
+    private static final VelocityTemplates TEMPLATES =
+        new VelocityTemplates(256);
+
     /**
      * Ctor.
      * @param template Template
@@ -113,21 +130,28 @@ public final class RsVelocity extends RsWrap {
     private static InputStream render(final String folder,
         final InputStream template,
         final Map<String, Object> params) throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (Writer writer = new WriterTo(baos)) {
-            final VelocityEngine engine = new VelocityEngine();
-            engine.setProperty(
-                "resource.loader.file.path",
-                folder
-            );
-            engine.evaluate(
-                new VelocityContext(params),
-                writer,
-                "",
-                new ReaderOf(template)
-            );
+        final BodyBuffer body = new BodyBuffer();
+        try (Writer writer = new OutputStreamWriter(
+            body, StandardCharsets.UTF_8
+        )) {
+            RsVelocity.TEMPLATES.template(
+                RsVelocity.engine(folder),
+                new IoCheckedBytes(new BytesOf(template)).asBytes()
+            ).merge(new VelocityContext(params), writer);
         }
-        return new ByteArrayInputStream(baos.toByteArray());
+        return body.stream();
+    }
+
+    private static RuntimeInstance engine(final String folder) {
+        return RsVelocity.ENGINES.computeIfAbsent(
+            folder,
+            path -> {
+                final RuntimeInstance engine = new RuntimeInstance();
+                engine.setProperty("resource.loader.file.path", path);
+                engine.init();
+                return engine;
+            }
+        );
     }
 
     private static Map<String, Object> convert(
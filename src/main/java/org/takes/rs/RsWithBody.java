@@ -4,6 +4,7 @@
  */
 package org.takes.rs;
 
+import java.io.File;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
@@ -21,6 +22,11 @@ import org.takes.Response;
  * overloads for different content types. Character encoding can be specified
  * for text content.
  *
+ * <p>The length of a body that comes from an {@link InputStream} is not
+ * known in advance, that's why there is no {@code Content-Length} header
+ * in such a response. {@link org.takes.http.BkBasic} sends it with
+ * {@link RsChunked} encoding.
+ *
  * <p>This implementation requires that the {@link Response#head()} method
  * be invoked before reading from the {@link Response#body()} input stream.
  *
@@ -57,6 +63,16 @@ public final class RsWithBody extends RsWrap {
         this(new RsWithStatus(HttpURLConnection.HTTP_OK), body);
     }
 
+    /**
+     * Constructs a {@code RsWithBody} with the content of the specified file
+     * as body.
+     * @param file File with body
+     * @since 2.0
+     */
+    public RsWithBody(final File file) {
+        this(new RsWithStatus(HttpURLConnection.HTTP_OK), file);
+    }
+
     /**
      * Constructs a {@code RsWithBody} with the content located at the specified
      * url as body.
@@ -66,6 +82,20 @@ public final class RsWithBody extends RsWrap {
         this(new RsWithStatus(HttpURLConnection.HTTP_OK), url);
     }
 
+    /**
+     * Constructs a {@code RsWithBody} with the content located at the specified
+     * url as body, and its length known in advance.
+     * @param url URL with body
+     * @param length Length of the content, or a negative number if unknown
+     * @since 2.0
+     */
+    public RsWithBody(final URL url, final long length) {
+        this(
+            new RsWithStatus(HttpURLConnection.HTTP_OK),
+            new RsBody.Url(url, length)
+        );
+    }
+
     /**
      * Constructs a {@code RsWithBody} with the specified response and body. The
      * body will be encoded into UTF-8 by default.
@@ -97,6 +127,21 @@ public final class RsWithBody extends RsWrap {
         this(res, new RsBody.Url(url));
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>The {@code Content-Length} is the size of the file, while
+     * {@link org.takes.http.BkBasic} sends its content straight into
+     * the socket, with {@link java.nio.channels.FileChannel#transferTo}.
+     *
+     * @param res Original response
+     * @param file File with body
+     * @since 2.0
+     */
+    public RsWithBody(final Response res, final File file) {
+        this(res, new RsBody.Disk(file));
+    }
+
     /**
      * Ctor.
      * @param res Original response
@@ -126,11 +171,17 @@ public final class RsWithBody extends RsWrap {
             new ResponseOf(
                 () -> {
                     final String header = "Content-Length";
-                    return new RsWithHeader(
-                        new RsWithoutHeader(res, header),
-                        header,
-                        Integer.toString(body.length())
-                    ).head();
+                    final Response without = new RsWithoutHeader(res, header);
+                    final long length = body.length();
+                    final Iterable<String> head;
+                    if (length < 0) {
+                        head = without.head();
+                    } else {
+                        head = new RsWithHeader(
+                            without, header, Long.toString(length)
+                        ).head();
+                    }
+                    return head;
                 },
                 body::stream
             )
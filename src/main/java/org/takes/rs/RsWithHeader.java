@@ -4,7 +4,6 @@
  */
 package org.takes.rs;
 
-import java.util.regex.Pattern;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.Scalar;
@@ -40,11 +39,9 @@ import org.takes.Response;
 public final class RsWithHeader extends RsWrap {
 
     /**
-     * Pattern for all other lines in the head.
+     * Syntax of a header line, for messages.
      */
-    private static final Pattern HEADER = Pattern.compile(
-        "[a-zA-Z0-9\\-]+:\\p{Print}+"
-    );
+    private static final String HEADER = "[a-zA-Z0-9\\-]+:\\p{Print}+";
 
     /**
      * Ctor.
@@ -101,7 +98,7 @@ public final class RsWithHeader extends RsWrap {
 
     private static Iterable<String> extend(final Iterable<String> head,
         final String header) {
-        if (!RsWithHeader.HEADER.matcher(header).matches()) {
+        if (!AsciiHead.header(header)) {
             throw new IllegalArgumentException(
                 new UncheckedText(
                     new FormattedText(
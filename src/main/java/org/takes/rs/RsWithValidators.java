@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.takes.Response;
+
+/**
+ * Response decorator that sets {@code ETag} and {@code Last-Modified}
+ * headers of a file.
+ *
+ * <p>The entity tag is made of the time of modification and the size,
+ * so it is computed without reading the file, for example:
+ *
+ * <pre> new RsWithValidators(
+ *   new RsWithBody(file), file.lastModified(), file.length()
+ * );</pre>
+ *
+ * <p>These headers let clients ask for the file only if it is
+ * changed, see {@link org.takes.tk.TkConditional}.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class RsWithValidators extends RsWrap {
+
+    /**
+     * Format of HTTP dates.
+     */
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter
+        .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.ENGLISH)
+        .withZone(ZoneId.of("GMT"));
+
+    /**
+     * Ctor.
+     * @param res Original response
+     * @param modified Time of modification, in milliseconds
+     * @param size Size of the content
+     */
+    public RsWithValidators(final Response res, final long modified,
+        final long size) {
+        super(
+            new RsWithHeader(
+                new RsWithHeader(
+                    new RsWithoutHeader(
+                        new RsWithoutHeader(res, "ETag"), "Last-Modified"
+                    ),
+                    "ETag",
+                    new StringBuilder("\"")
+                        .append(Long.toHexString(modified))
+                        .append('-')
+                        .append(Long.toHexString(size))
+                        .append('"')
+                ),
+                "Last-Modified",
+                RsWithValidators.FORMAT.format(Instant.ofEpochMilli(modified))
+            )
+        );
+    }
+}
@@ -4,6 +4,8 @@
  */
 package org.takes.rs;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,6 +29,7 @@ import org.cactoos.scalar.Unchecked;
 import org.cactoos.text.FormattedText;
 import org.cactoos.text.UncheckedText;
 import org.takes.Response;
+import org.takes.misc.Buffers;
 
 /**
  * Response decorator that transforms XML to HTML using XSL stylesheets.
@@ -35,7 +38,8 @@ import org.takes.Response;
  * processing instructions and transforms them into HTML or other formats.
  * The stylesheet location is resolved using a configurable URIResolver,
  * with classpath resolution as the default. Transformer factories are
- * cached for performance.
+ * cached for performance, and so are compiled stylesheets, see
+ * {@link XslCache}.
  *
  * <p>Expected XML format:
  * <pre>&lt;?xml version="1.0"?&gt;
@@ -62,6 +66,12 @@ import org.takes.Response;
  * <p><strong>Note:</strong> Saxon is recommended as the XSL transformer
  * for best compatibility and performance.
  *
+ * <p>By default, the whole XML is read into memory and so is the result
+ * of the transformation. Large pages may be transformed as they are
+ * printed, if the stylesheet instruction is close to the beginning:
+ *
+ * <pre>new RsXslt(response, resolver, new XslCache(), 8192)</pre>
+ *
  * <p>The class is immutable and thread-safe.
  *
  * @see org.takes.rs.xe.RsXembly
@@ -71,6 +81,11 @@ import org.takes.Response;
 @EqualsAndHashCode(callSuper = true)
 public final class RsXslt extends RsWrap {
 
+    /**
+     * Compiled stylesheets, shared by default.
+     */
+    static final XslCache TEMPLATES = new XslCache();
+
     /**
      * Cached factory.
      */
@@ -91,11 +106,46 @@ public final class RsXslt extends RsWrap {
      * @param resolver URI resolver
      */
     public RsXslt(final Response rsp, final URIResolver resolver) {
+        this(rsp, resolver, RsXslt.TEMPLATES);
+    }
+
+    /**
+     * Ctor.
+     * @param rsp Original response
+     * @param resolver URI resolver
+     * @param cache Cache of compiled stylesheets
+     * @since 2.0
+     */
+    public RsXslt(final Response rsp, final URIResolver resolver,
+        final XslCache cache) {
+        this(rsp, resolver, cache, 0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>If the prefix is positive, the XML is not read into memory.
+     * The stylesheet processing instruction is looked for in the given
+     * number of first bytes, and the result is produced while the body
+     * is being read.
+     *
+     * @param rsp Original response
+     * @param resolver URI resolver
+     * @param cache Cache of compiled stylesheets
+     * @param prefix How many first bytes of XML may have the stylesheet
+     *  instruction, or zero to transform the XML in memory
+     * @since 2.0
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public RsXslt(final Response rsp, final URIResolver resolver,
+        final XslCache cache, final int prefix) {
         super(
             new RsWithHeader(
                 new ResponseOf(
                     rsp::head,
-                    () -> RsXslt.transform(rsp.body(), resolver)
+                    () -> RsXslt.transform(
+                        rsp.body(), resolver, cache, prefix
+                    )
                 ),
                 () -> new UncheckedText(
                     new FormattedText(
@@ -127,11 +177,28 @@ public final class RsXslt extends RsWrap {
         );
     }
 
+    /**
+     * Transform the XML.
+     * @param origin XML
+     * @param resolver URI resolver
+     * @param cache Cache of compiled stylesheets
+     * @param prefix Prefix to find the stylesheet in, or zero
+     * @return Result of transformation
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
     private static InputStream transform(final InputStream origin,
-        final URIResolver resolver) throws IOException {
+        final URIResolver resolver, final XslCache cache, final int prefix)
+        throws IOException {
         final TransformerFactory fct = RsXslt.factory(resolver);
         try {
-            return RsXslt.transform(fct, origin);
+            final InputStream result;
+            if (prefix > 0) {
+                result = RsXslt.streamed(fct, origin, cache, prefix);
+            } else {
+                result = RsXslt.transform(fct, origin, cache);
+            }
+            return result;
         } catch (final TransformerException ex) {
             throw new IOException(
                 new UncheckedText(
@@ -146,7 +213,8 @@ public final class RsXslt extends RsWrap {
     }
 
     private static InputStream transform(final TransformerFactory factory,
-        final InputStream xml) throws TransformerException {
+        final InputStream xml, final XslCache cache)
+        throws TransformerException {
         final byte[] input;
         try {
             input = RsXslt.consume(xml);
@@ -159,7 +227,8 @@ public final class RsXslt extends RsWrap {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         RsXslt.transformer(
             factory,
-            RsXslt.stylesheet(factory, new StreamSource(new ReaderOf(input)))
+            RsXslt.stylesheet(factory, new StreamSource(new ReaderOf(input))),
+            cache
         ).transform(
             new StreamSource(
                 new ReaderOf(input)
@@ -171,17 +240,53 @@ public final class RsXslt extends RsWrap {
         return new InputStreamOf(baos.toByteArray());
     }
 
+    /**
+     * Transform the XML while it is being read.
+     * @param factory Factory
+     * @param origin XML
+     * @param cache Cache of compiled stylesheets
+     * @param prefix Prefix to find the stylesheet in
+     * @return Result of transformation
+     * @throws IOException If fails
+     * @throws TransformerException If there is no stylesheet
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static InputStream streamed(final TransformerFactory factory,
+        final InputStream origin, final XslCache cache, final int prefix)
+        throws IOException, TransformerException {
+        final InputStream xml = new BufferedInputStream(origin, prefix);
+        xml.mark(prefix);
+        final byte[] head = new byte[prefix];
+        int len = 0;
+        while (len < prefix) {
+            final int read = xml.read(head, len, prefix - len);
+            if (read < 0) {
+                break;
+            }
+            len += read;
+        }
+        xml.reset();
+        final Transformer tnfr;
+        try {
+            tnfr = RsXslt.transformer(
+                factory,
+                RsXslt.stylesheet(
+                    factory,
+                    new StreamSource(new ByteArrayInputStream(head, 0, len))
+                ),
+                cache
+            );
+        } catch (final TransformerException ex) {
+            xml.close();
+            throw ex;
+        }
+        return new XslPipe(tnfr, xml, prefix);
+    }
+
     private static byte[] consume(final InputStream input) throws IOException {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        final byte[] buf = new byte[4096];
         try (InputStream stream = input) {
-            while (true) {
-                final int bytes = stream.read(buf);
-                if (bytes < 0) {
-                    break;
-                }
-                baos.write(buf, 0, bytes);
-            }
+            new Buffers().copy(stream, baos);
         }
         return baos.toByteArray();
     }
@@ -200,8 +305,10 @@ public final class RsXslt extends RsWrap {
     }
 
     private static Transformer transformer(final TransformerFactory factory,
-        final Source stylesheet) throws TransformerConfigurationException {
-        final Transformer tnfr = factory.newTransformer(stylesheet);
+        final Source stylesheet, final XslCache cache)
+        throws TransformerConfigurationException {
+        final Transformer tnfr = cache.templates(factory, stylesheet)
+            .newTransformer();
         if (tnfr == null) {
             throw new TransformerConfigurationException(
                 new UncheckedText(
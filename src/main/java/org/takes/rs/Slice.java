@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Part of a stream, after skipping some bytes.
+ *
+ * <p>Bytes are skipped with {@link InputStream#skip(long)}, so a stream
+ * of a file, like {@link FileBody}, just moves its position, without
+ * reading what is skipped. The original stream is not closed by this
+ * one, since the next part may be read from it.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class Slice extends InputStream {
+
+    /**
+     * Original stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * How many bytes are left to skip.
+     */
+    private long skip;
+
+    /**
+     * How many bytes are left to read.
+     */
+    private long left;
+
+    /**
+     * Ctor.
+     * @param input Original stream
+     * @param gap How many bytes to skip first
+     * @param count How many bytes to read after them
+     */
+    Slice(final InputStream input, final long gap, final long count) {
+        super();
+        this.origin = input;
+        this.skip = gap;
+        this.left = count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] one = new byte[1];
+        final int data;
+        if (this.read(one, 0, 1) < 0) {
+            data = -1;
+        } else {
+            data = one[0] & 0xFF;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        while (this.skip > 0L) {
+            long skipped = this.origin.skip(this.skip);
+            if (skipped <= 0L) {
+                if (this.origin.read() < 0) {
+                    this.left = 0L;
+                    break;
+                }
+                skipped = 1L;
+            }
+            this.skip -= skipped;
+        }
+        int read = -1;
+        if (this.left > 0L) {
+            read = this.origin.read(
+                buf, off, (int) Math.min(len, this.left)
+            );
+            if (read < 0) {
+                this.left = 0L;
+            } else {
+                this.left -= read;
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public void close() {
+        this.skip = 0L;
+        this.left = 0L;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.velocity.Template;
+import org.apache.velocity.exception.ParseErrorException;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
+
+/**
+ * Parsed Velocity templates, by engine and hash of the content.
+ *
+ * <p>The least recently used templates are dropped when there are
+ * more of them than the size of the cache.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class VelocityTemplates {
+
+    /**
+     * Maximum number of templates.
+     */
+    private final int max;
+
+    /**
+     * Templates, by engine and hash.
+     */
+    private final Map<List<Object>, Template> entries;
+
+    /**
+     * Ctor.
+     * @param size Maximum number of templates to keep
+     */
+    VelocityTemplates(final int size) {
+        this.max = size;
+        this.entries = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true)
+        );
+    }
+
+    /**
+     * Get parsed template.
+     * @param engine Engine
+     * @param source Content of the template, in UTF-8
+     * @return Template, ready to merge
+     */
+    Template template(final RuntimeInstance engine, final byte[] source) {
+        final List<Object> key = Arrays.asList(
+            engine, VelocityTemplates.hash(source)
+        );
+        Template template = this.entries.get(key);
+        if (template == null) {
+            template = VelocityTemplates.parse(engine, source);
+            this.store(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Put template into the cache, dropping the least recently used.
+     * @param key Key
+     * @param template Template
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+    private void store(final List<Object> key, final Template template) {
+        synchronized (this.entries) {
+            this.entries.put(key, template);
+            final Iterator<List<Object>> keys =
+                this.entries.keySet().iterator();
+            while (this.entries.size() > this.max) {
+                keys.next();
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Parse the template.
+     * @param engine Engine
+     * @param source Content of the template
+     * @return Template
+     */
+    private static Template parse(final RuntimeInstance engine,
+        final byte[] source) {
+        final Template template = new Template();
+        template.setName("");
+        template.setRuntimeServices(engine);
+        try {
+            template.setData(
+                engine.parse(
+                    new InputStreamReader(
+                        new ByteArrayInputStream(source),
+                        StandardCharsets.UTF_8
+                    ),
+                    template
+                )
+            );
+        } catch (final ParseException ex) {
+            throw new ParseErrorException(ex, null);
+        }
+        template.initDocument();
+        return template;
+    }
+
+    /**
+     * Hash of the content.
+     * @param source Content
+     * @return SHA-256 in Base64
+     */
+    private static String hash(final byte[] source) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(source)
+            );
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
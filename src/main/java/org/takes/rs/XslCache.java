@@ -0,0 +1,214 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import lombok.EqualsAndHashCode;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Cache of compiled XSL stylesheets, for {@link RsXslt}.
+ *
+ * <p>Compiling a stylesheet is much more expensive than applying it,
+ * so {@link RsXslt} asks this cache for {@link Templates} by the system
+ * ID of the stylesheet and compiles it only once. Stylesheets without
+ * system ID are compiled every time. The least recently used stylesheets
+ * are dropped when there are more of them than the size of the cache.
+ *
+ * <p>For development, the cache may check the modification time of
+ * the stylesheet, if it is a file, and compile it again after a change:
+ *
+ * <pre> new RsXslt(response, resolver, new XslCache(64, true));</pre>
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@EqualsAndHashCode(of = {"max", "reload"})
+public final class XslCache {
+
+    /**
+     * Maximum number of stylesheets.
+     */
+    private final int max;
+
+    /**
+     * Compile a stylesheet again if its file is modified?
+     */
+    private final boolean reload;
+
+    /**
+     * Modification times and templates, by factory and system ID.
+     */
+    private final Map<List<Object>, Map.Entry<Long, Templates>> entries;
+
+    /**
+     * How many times templates were found in cache.
+     */
+    private final AtomicLong found;
+
+    /**
+     * How many times templates were compiled.
+     */
+    private final AtomicLong compiled;
+
+    /**
+     * Ctor.
+     */
+    public XslCache() {
+        this(64, false);
+    }
+
+    /**
+     * Ctor.
+     * @param size Maximum number of stylesheets to keep
+     * @param rld Compile a stylesheet again if its file is modified
+     */
+    public XslCache(final int size, final boolean rld) {
+        this.max = size;
+        this.reload = rld;
+        this.entries = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true)
+        );
+        this.found = new AtomicLong();
+        this.compiled = new AtomicLong();
+    }
+
+    /**
+     * How many times compiled templates were found in cache.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.found.get();
+    }
+
+    /**
+     * How many times a stylesheet had to be compiled.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.compiled.get();
+    }
+
+    /**
+     * Get compiled templates of the stylesheet.
+     * @param factory Factory to compile with
+     * @param xsl Stylesheet
+     * @return Templates
+     * @throws TransformerConfigurationException If can't compile
+     */
+    Templates templates(final TransformerFactory factory, final Source xsl)
+        throws TransformerConfigurationException {
+        final String id = xsl.getSystemId();
+        final Templates templates;
+        if (id == null || this.max <= 0) {
+            templates = this.compile(factory, xsl);
+        } else {
+            final List<Object> key = Arrays.asList(factory, id);
+            final long time = this.modified(id);
+            final Map.Entry<Long, Templates> entry = this.entries.get(key);
+            if (entry == null || entry.getKey() != time) {
+                templates = this.compile(factory, xsl);
+                this.store(
+                    key,
+                    new AbstractMap.SimpleImmutableEntry<>(time, templates)
+                );
+            } else {
+                this.found.incrementAndGet();
+                templates = entry.getValue();
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * Compile the stylesheet.
+     * @param factory Factory to compile with
+     * @param xsl Stylesheet
+     * @return Templates
+     * @throws TransformerConfigurationException If can't compile
+     */
+    private Templates compile(final TransformerFactory factory,
+        final Source xsl) throws TransformerConfigurationException {
+        this.compiled.incrementAndGet();
+        final Templates templates = factory.newTemplates(xsl);
+        if (templates == null) {
+            throw new TransformerConfigurationException(
+                new UncheckedText(
+                    new FormattedText(
+                        "%s failed to compile XSL stylesheet '%s'",
+                        factory.getClass(),
+                        xsl.getSystemId()
+                    )
+                ).asString()
+            );
+        }
+        return templates;
+    }
+
+    /**
+     * Put templates into the cache, dropping the least recently used.
+     * @param key Key
+     * @param entry Modification time and templates
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+    private void store(final List<Object> key,
+        final Map.Entry<Long, Templates> entry) {
+        synchronized (this.entries) {
+            this.entries.put(key, entry);
+            final Iterator<List<Object>> keys =
+                this.entries.keySet().iterator();
+            while (this.entries.size() > this.max) {
+                keys.next();
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Modification time of the stylesheet, if we need it.
+     * @param id System ID of the stylesheet
+     * @return Time in milliseconds, or zero if unknown
+     */
+    private long modified(final String id) {
+        long time = 0L;
+        if (this.reload) {
+            try {
+                final URI uri = new URI(id);
+                final URL url;
+                if (uri.isAbsolute()) {
+                    url = uri.toURL();
+                } else {
+                    url = XslCache.class.getResource(uri.getPath());
+                }
+                if (url != null && "file".equals(url.getProtocol())) {
+                    time = new File(url.toURI()).lastModified();
+                }
+            } catch (final URISyntaxException
+                | MalformedURLException
+                | IllegalArgumentException ex) {
+                time = 0L;
+            }
+        }
+        return time;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Result of XSL transformation, as it is produced.
+ *
+ * <p>{@link Transformer} can only push its result into an output
+ * stream, so the transformation runs in a separate thread, which starts
+ * on the first read and writes into a pipe of limited size. The threads
+ * are taken from a pool, shared by all pipes, so no more than four
+ * transformations per processor run at the same time, while the others
+ * wait for a free thread. Thus,
+ * neither the XML nor the result are kept in memory as a whole. If the
+ * transformation fails, the failure is thrown from the read that meets
+ * the end of the pipe.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class XslPipe extends InputStream {
+
+    /**
+     * Threads of transformations, shared by all pipes.
+     */
+    private static final Executor SHARED = XslPipe.pool(
+        Runtime.getRuntime().availableProcessors() << 2
+    );
+
+    /**
+     * Threads to run the transformation in.
+     */
+    private final Executor threads;
+
+    /**
+     * Transformer.
+     */
+    private final Transformer transformer;
+
+    /**
+     * XML to transform.
+     */
+    private final InputStream xml;
+
+    /**
+     * Pipe to read the result from.
+     */
+    private final PipedInputStream pipe;
+
+    /**
+     * Failure of the transformation, if any.
+     */
+    private final AtomicReference<Exception> failure;
+
+    /**
+     * Is the transformation started?
+     */
+    private boolean started;
+
+    /**
+     * Ctor.
+     * @param tnfr Transformer
+     * @param input XML to transform
+     * @param size Size of the pipe
+     */
+    XslPipe(final Transformer tnfr, final InputStream input, final int size) {
+        this(tnfr, input, size, XslPipe.SHARED);
+    }
+
+    /**
+     * Ctor.
+     * @param tnfr Transformer
+     * @param input XML to transform
+     * @param size Size of the pipe
+     * @param exec Threads to run the transformation in
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    XslPipe(final Transformer tnfr, final InputStream input, final int size,
+        final Executor exec) {
+        super();
+        this.threads = exec;
+        this.transformer = tnfr;
+        this.xml = input;
+        this.pipe = new PipedInputStream(size);
+        this.failure = new AtomicReference<>();
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] one = new byte[1];
+        final int data;
+        if (this.read(one, 0, 1) < 0) {
+            data = -1;
+        } else {
+            data = one[0] & 0xFF;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (!this.started) {
+            this.start();
+        }
+        final int read = this.pipe.read(buf, off, len);
+        final Exception error = this.failure.get();
+        if (read < 0 && error != null) {
+            throw new IOException("Failed to transform XML", error);
+        }
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.pipe.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.pipe.close();
+    }
+
+    /**
+     * Start the transformation.
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    private void start() throws IOException {
+        final OutputStream output = new PipedOutputStream(this.pipe);
+        this.threads.execute(() -> this.produce(output));
+        this.started = true;
+    }
+
+    /**
+     * Transform and close the writing end of the pipe.
+     * @param output The writing end of the pipe
+     */
+    private void produce(final OutputStream output) {
+        try (OutputStream out = output) {
+            this.transform(out);
+        } catch (final IOException ex) {
+            this.failure.compareAndSet(null, ex);
+        }
+    }
+
+    /**
+     * Make a pool of daemon threads, which go away when idle.
+     * @param max Maximum of threads
+     * @return Pool
+     */
+    private static Executor pool(final int max) {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            max, max, 1L, TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            task -> {
+                final Thread thread = new Thread(task, "RsXslt");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Transform, remembering a failure, if any.
+     * @param output Where to write the result
+     */
+    private void transform(final OutputStream output) {
+        try (InputStream input = this.xml) {
+            this.transformer.transform(
+                new StreamSource(input),
+                new StreamResult(output)
+            );
+        } catch (final TransformerException | IOException ex) {
+            this.failure.set(ex);
+        }
+    }
+}
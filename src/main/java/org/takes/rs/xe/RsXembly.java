@@ -15,15 +15,12 @@ import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.io.WriterTo;
 import org.cactoos.list.ListOf;
-import org.cactoos.text.FormattedText;
-import org.cactoos.text.UncheckedText;
 import org.takes.rs.ResponseOf;
 import org.takes.rs.RsEmpty;
 import org.takes.rs.RsWithStatus;
@@ -36,6 +33,10 @@ import org.xembly.Xembler;
 /**
  * Response that converts Xembly object to XML.
  *
+ * <p>Directives are applied to a copy of the DOM node, made with
+ * {@link Node#cloneNode(boolean)}, and the transformer factory is
+ * looked up only once for all responses.
+ *
  * <p>The class is immutable and thread-safe.
  *
  * @since 0.1
@@ -49,6 +50,12 @@ public final class RsXembly extends RsWrap {
      */
     private static final Node EMPTY_DOM = RsXembly.emptyDocument();
 
+    /**
+     * Factory of transformers, looked up only once.
+     */
+    private static final TransformerFactory FACTORY =
+        TransformerFactory.newInstance();
+
     /**
      * Ctor.
      * @param sources Sources
@@ -114,9 +121,11 @@ public final class RsXembly extends RsWrap {
         final ByteArrayOutputStream baos =
             new ByteArrayOutputStream();
         try {
-            TransformerFactory.newInstance().newTransformer().transform(
+            RsXembly.transformer().transform(
                 new DOMSource(
-                    new Xembler(src.toXembly()).applyQuietly(cloneNode(dom))
+                    new Xembler(src.toXembly()).applyQuietly(
+                        RsXembly.copy(dom)
+                    )
                 ),
                 new StreamResult(
                     new WriterTo(baos)
@@ -144,32 +153,39 @@ public final class RsXembly extends RsWrap {
         }
     }
 
-    private static Node cloneNode(final Node dom) {
-        final Transformer transformer;
-        try {
-            transformer = TransformerFactory.newInstance().newTransformer();
-        } catch (final TransformerConfigurationException ex) {
-            throw new IllegalStateException(
-                "Could not create new Transformer to clone Node",
-                ex
-            );
+    /**
+     * Create a transformer that copies the source as is.
+     * @return Transformer
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+    private static Transformer transformer() {
+        synchronized (RsXembly.FACTORY) {
+            try {
+                return RsXembly.FACTORY.newTransformer();
+            } catch (final TransformerConfigurationException ex) {
+                throw new IllegalStateException(
+                    "Could not create new identity Transformer",
+                    ex
+                );
+            }
         }
-        final DOMSource source = new DOMSource(dom);
-        try {
-            final DOMResult result = new DOMResult();
-            transformer.transform(source, result);
-            return result.getNode();
-        } catch (final TransformerException ex) {
-            throw new IllegalArgumentException(
-                new UncheckedText(
-                    new FormattedText(
-                        "Could not clone Node %s with Transformer %s",
-                        source,
-                        transformer
-                    )
-                ).asString(),
-                ex
-            );
+    }
+
+    /**
+     * Deep copy of the node, as a new document.
+     * @param dom The node
+     * @return Document
+     */
+    private static Node copy(final Node dom) {
+        final Node copy;
+        if (dom.getNodeType() == Node.DOCUMENT_NODE) {
+            copy = dom.cloneNode(true);
+        } else {
+            final Document doc = dom.getOwnerDocument().getImplementation()
+                .createDocument(null, null, null);
+            doc.appendChild(doc.importNode(dom, true));
+            copy = doc;
         }
+        return copy;
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs.xe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.list.ListOf;
+import org.takes.rs.ResponseOf;
+import org.takes.rs.RsEmpty;
+import org.takes.rs.RsWithStatus;
+import org.takes.rs.RsWithType;
+import org.takes.rs.RsWrap;
+import org.xembly.Directive;
+
+/**
+ * Response that converts Xembly object to XML, without DOM when possible.
+ *
+ * <p>It is a replacement of {@link RsXembly} for large pages, for
+ * example:
+ *
+ * <pre> new RsXslt(
+ *   new RsXemblyStream(
+ *     new XeStylesheet("/xsl/list.xsl"),
+ *     new XeAppend("page", new XeDate(), new XeLink("home", "/"))
+ *   )
+ * );</pre>
+ *
+ * <p>If the directives only append to the document, like the ones of
+ * {@link XeAppend}, {@link XeDate}, {@link XeLink} or
+ * {@link XeStylesheet}, the XML is written straight by
+ * {@link javax.xml.stream.XMLStreamWriter} while the body is being
+ * read, and no DOM is built at all. Otherwise, for example if there is
+ * an {@code XPATH} directive, like in {@link XeMillis}, the response is
+ * made by {@link RsXembly}.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class RsXemblyStream extends RsWrap {
+
+    /**
+     * Ctor.
+     * @param sources Sources
+     */
+    public RsXemblyStream(final XeSource... sources) {
+        this(new ListOf<>(sources));
+    }
+
+    /**
+     * Ctor.
+     * @param sources Sources
+     */
+    public RsXemblyStream(final Iterable<XeSource> sources) {
+        this(new XeChain(sources));
+    }
+
+    /**
+     * Ctor.
+     * @param src Source
+     */
+    public RsXemblyStream(final XeSource src) {
+        super(
+            new ResponseOf(
+                () -> new RsWithType(
+                    new RsWithStatus(
+                        new RsEmpty(), HttpURLConnection.HTTP_OK
+                    ), "text/xml"
+                ).head(),
+                () -> RsXemblyStream.render(src.toXembly())
+            )
+        );
+    }
+
+    private static InputStream render(final Iterable<Directive> dirs)
+        throws IOException {
+        final XeScript script = new XeScript(dirs);
+        final InputStream body;
+        if (script.linear()) {
+            body = script.stream();
+        } else {
+            body = new RsXembly(new XeDirectives(dirs)).body();
+        }
+        return body;
+    }
+}
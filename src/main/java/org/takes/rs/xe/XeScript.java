@@ -0,0 +1,260 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs.xe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.takes.misc.Opt;
+import org.xembly.Directive;
+
+/**
+ * Xembly directives, checked to only append to the document.
+ *
+ * <p>If directives never navigate back by XPath and never replace what
+ * is already there, the document may be written from the top to the
+ * bottom, directive by directive, without building a DOM. Here, such
+ * directives are {@code ADD}, {@code ATTR}, {@code SET} of an element
+ * without content, {@code UP}, {@code PI}, {@code PUSH} and {@code POP}
+ * back to an element which is still open. All attributes of every
+ * element are collected in advance, so {@code ATTR} may come after
+ * the children of the element.
+ *
+ * <p>The directives are read from their Xembly script, since their
+ * classes are not visible outside of Xembly.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class XeScript {
+
+    /**
+     * Argument of a directive.
+     */
+    private static final Pattern ARG = Pattern.compile("\"([^\"]*)\"");
+
+    /**
+     * Escaped symbol in an argument.
+     */
+    private static final Pattern SYMBOL = Pattern.compile(
+        "&(#\\d+|quot|amp|apos|lt|gt);"
+    );
+
+    /**
+     * Directives, as verbs with arguments.
+     */
+    private final Unchecked<List<List<String>>> steps;
+
+    /**
+     * Attributes of elements in the order of their creation, if
+     * directives only append.
+     */
+    private final Unchecked<Opt<List<Map<String, String>>>> plan;
+
+    /**
+     * Ctor.
+     * @param dirs Directives
+     */
+    XeScript(final Iterable<Directive> dirs) {
+        this(new Unchecked<>(new Sticky<>(() -> XeScript.parse(dirs))));
+    }
+
+    /**
+     * Ctor.
+     * @param stps Directives, as verbs with arguments
+     */
+    private XeScript(final Unchecked<List<List<String>>> stps) {
+        this.steps = stps;
+        this.plan = new Unchecked<>(
+            new Sticky<>(() -> XeScript.attributes(stps.value()))
+        );
+    }
+
+    /**
+     * Do the directives only append?
+     * @return TRUE if they may be written without DOM
+     */
+    boolean linear() {
+        return this.plan.value().has();
+    }
+
+    /**
+     * The document, written directive by directive, as it is read.
+     * @return Stream of XML
+     * @throws IOException If fails
+     */
+    InputStream stream() throws IOException {
+        return new XeStream(
+            this.steps.value().iterator(),
+            this.plan.value().get().iterator()
+        );
+    }
+
+    /**
+     * Parse directives.
+     * @param dirs Directives
+     * @return Verbs with arguments
+     */
+    private static List<List<String>> parse(final Iterable<Directive> dirs) {
+        final List<List<String>> list = new ArrayList<>(0);
+        for (final Directive dir : dirs) {
+            final String text = dir.toString();
+            final List<String> step = new ArrayList<>(3);
+            final int space = text.indexOf(' ');
+            if (space < 0) {
+                step.add(text);
+            } else {
+                step.add(text.substring(0, space));
+            }
+            final Matcher args = XeScript.ARG.matcher(text);
+            while (args.find()) {
+                step.add(XeScript.unescape(args.group(1)));
+            }
+            list.add(step);
+        }
+        return list;
+    }
+
+    /**
+     * Collect attributes of all elements, if directives only append.
+     * @param steps Verbs with arguments
+     * @return Attributes in the order of creation of elements, or nothing
+     * @checkstyle CyclomaticComplexityCheck (60 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static Opt<List<Map<String, String>>> attributes(
+        final List<List<String>> steps) {
+        final List<Map<String, String>> attrs = new ArrayList<>(0);
+        final List<Integer> path = new ArrayList<>(0);
+        final Deque<List<Integer>> pushed = new ArrayDeque<>(0);
+        final BitSet filled = new BitSet();
+        boolean linear = true;
+        for (final List<String> step : steps) {
+            final int top = path.size() - 1;
+            switch (step.get(0)) {
+                case "ADD":
+                    linear = top >= 0 || attrs.isEmpty();
+                    XeScript.fill(path, filled);
+                    path.add(attrs.size());
+                    attrs.add(new LinkedHashMap<>(0));
+                    break;
+                case "ATTR":
+                    linear = top >= 0;
+                    if (linear) {
+                        attrs.get(path.get(top)).put(step.get(1), step.get(2));
+                    }
+                    break;
+                case "SET":
+                    linear = top >= 0 && !filled.get(path.get(top));
+                    if (linear) {
+                        filled.set(path.get(top));
+                    }
+                    break;
+                case "PI":
+                    XeScript.fill(path, filled);
+                    break;
+                case "UP":
+                    linear = top >= 0;
+                    if (linear) {
+                        path.remove(top);
+                    }
+                    break;
+                case "PUSH":
+                    pushed.push(new ArrayList<>(path));
+                    break;
+                case "POP":
+                    linear = XeScript.back(path, pushed);
+                    break;
+                default:
+                    linear = false;
+                    break;
+            }
+            if (!linear) {
+                break;
+            }
+        }
+        final Opt<List<Map<String, String>>> result;
+        if (linear) {
+            result = new Opt.Single<>(attrs);
+        } else {
+            result = new Opt.Empty<>();
+        }
+        return result;
+    }
+
+    /**
+     * Mark the current element, if any, as having content.
+     * @param path Open elements, from the root
+     * @param filled Elements with content
+     */
+    private static void fill(final List<Integer> path, final BitSet filled) {
+        if (!path.isEmpty()) {
+            filled.set(path.get(path.size() - 1));
+        }
+    }
+
+    /**
+     * Go back to the element remembered by the last {@code PUSH}.
+     * @param path Open elements, from the root
+     * @param pushed Remembered paths
+     * @return TRUE if that element is still open
+     */
+    private static boolean back(final List<Integer> path,
+        final Deque<List<Integer>> pushed) {
+        boolean open = !pushed.isEmpty();
+        if (open) {
+            final List<Integer> saved = pushed.pop();
+            open = saved.size() <= path.size()
+                && saved.equals(path.subList(0, saved.size()));
+            if (open) {
+                path.subList(saved.size(), path.size()).clear();
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Unescape an argument of a directive.
+     * @param arg The argument, as it is in the script
+     * @return Its value
+     */
+    private static String unescape(final String arg) {
+        final Matcher symbols = XeScript.SYMBOL.matcher(arg);
+        final StringBuffer text = new StringBuffer(arg.length());
+        while (symbols.find()) {
+            final String name = symbols.group(1);
+            final char chr;
+            if (name.charAt(0) == '#') {
+                chr = (char) Integer.parseInt(name.substring(1));
+            } else if ("quot".equals(name)) {
+                chr = '"';
+            } else if ("amp".equals(name)) {
+                chr = '&';
+            } else if ("apos".equals(name)) {
+                chr = '\'';
+            } else if ("lt".equals(name)) {
+                chr = '<';
+            } else {
+                chr = '>';
+            }
+            symbols.appendReplacement(
+                text, Matcher.quoteReplacement(String.valueOf(chr))
+            );
+        }
+        symbols.appendTail(text);
+        return text.toString();
+    }
+}
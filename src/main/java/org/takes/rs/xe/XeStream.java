@@ -0,0 +1,214 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs.xe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * XML document, written by Xembly directives as it is read.
+ *
+ * <p>Directives are applied only when more bytes are needed, so only
+ * a few kilobytes of the document are in memory at any moment. The
+ * directives must be checked by {@link XeScript} first.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class XeStream extends InputStream {
+
+    /**
+     * Factory of writers.
+     */
+    private static final XMLOutputFactory FACTORY =
+        XMLOutputFactory.newInstance();
+
+    /**
+     * How many bytes to write before they are given to the reader.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * Directives left, as verbs with arguments.
+     */
+    private final Iterator<List<String>> steps;
+
+    /**
+     * Attributes of elements left, in the order of their creation.
+     */
+    private final Iterator<Map<String, String>> attrs;
+
+    /**
+     * Bytes written and not yet read.
+     */
+    private final ByteArrayOutputStream buffer;
+
+    /**
+     * Depths remembered by {@code PUSH}.
+     */
+    private final Deque<Integer> pushed;
+
+    /**
+     * Writer, when started.
+     */
+    private XMLStreamWriter writer;
+
+    /**
+     * Bytes to read.
+     */
+    private byte[] chunk;
+
+    /**
+     * Position of the next byte to read in the chunk.
+     */
+    private int pos;
+
+    /**
+     * How many elements are open.
+     */
+    private int depth;
+
+    /**
+     * Is the document finished?
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param stps Directives, as verbs with arguments
+     * @param attributes Attributes of elements, in the order of creation
+     */
+    XeStream(final Iterator<List<String>> stps,
+        final Iterator<Map<String, String>> attributes) {
+        super();
+        this.steps = stps;
+        this.attrs = attributes;
+        this.buffer = new ByteArrayOutputStream(XeStream.CHUNK);
+        this.pushed = new ArrayDeque<>(0);
+        this.chunk = new byte[0];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] one = new byte[1];
+        final int data;
+        if (this.read(one, 0, 1) < 0) {
+            data = -1;
+        } else {
+            data = one[0] & 0xFF;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        if (this.pos == this.chunk.length && !this.done) {
+            this.fill();
+        }
+        final int read;
+        if (this.pos == this.chunk.length) {
+            read = -1;
+        } else {
+            read = Math.min(len, this.chunk.length - this.pos);
+            System.arraycopy(this.chunk, this.pos, buf, off, read);
+            this.pos += read;
+        }
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return this.chunk.length - this.pos;
+    }
+
+    /**
+     * Apply directives until there are enough bytes to read.
+     * @throws IOException If fails
+     */
+    private void fill() throws IOException {
+        this.buffer.reset();
+        try {
+            if (this.writer == null) {
+                this.writer = XeStream.FACTORY.createXMLStreamWriter(
+                    this.buffer, "UTF-8"
+                );
+                this.writer.writeStartDocument("UTF-8", "1.0");
+            }
+            while (this.buffer.size() < XeStream.CHUNK && !this.done) {
+                if (this.steps.hasNext()) {
+                    this.apply(this.steps.next());
+                } else {
+                    this.writer.writeEndDocument();
+                    this.done = true;
+                }
+                this.writer.flush();
+            }
+        } catch (final XMLStreamException ex) {
+            throw new IOException("Failed to write XML by Xembly", ex);
+        }
+        this.chunk = this.buffer.toByteArray();
+        this.pos = 0;
+    }
+
+    /**
+     * Apply one directive.
+     * @param step Verb with arguments
+     * @throws XMLStreamException If fails
+     */
+    private void apply(final List<String> step) throws XMLStreamException {
+        switch (step.get(0)) {
+            case "ADD":
+                this.writer.writeStartElement(step.get(1));
+                for (final Map.Entry<String, String> attr
+                    : this.attrs.next().entrySet()) {
+                    this.writer.writeAttribute(attr.getKey(), attr.getValue());
+                }
+                ++this.depth;
+                break;
+            case "SET":
+                this.writer.writeCharacters(step.get(1));
+                break;
+            case "PI":
+                this.writer.writeProcessingInstruction(
+                    step.get(1), step.get(2)
+                );
+                break;
+            case "UP":
+                this.close(this.depth - 1);
+                break;
+            case "PUSH":
+                this.pushed.push(this.depth);
+                break;
+            case "POP":
+                this.close(this.pushed.pop());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Close elements until there are only so many open.
+     * @param open How many elements must stay open
+     * @throws XMLStreamException If fails
+     */
+    private void close(final int open) throws XMLStreamException {
+        while (this.depth > open) {
+            this.writer.writeEndElement();
+            --this.depth;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.cactoos.text.TextOf;
 import org.cactoos.text.Trimmed;
 import org.cactoos.text.UncheckedText;
 import org.takes.Response;
+import org.takes.misc.Buffers;
 import org.takes.misc.Equality;
 
 /**
@@ -47,11 +48,6 @@ import org.takes.misc.Equality;
  */
 final class ResponseOf {
 
-    /**
-     * Buffer size.
-     */
-    private static final int BUFSIZE = 8192;
-
     /**
      * Http response first line head pattern.
      */
@@ -90,10 +86,7 @@ final class ResponseOf {
                 InputStream body = this.rsp.body();
                 OutputStream out = sresp.getOutputStream()
             ) {
-                final byte[] buff = new byte[ResponseOf.BUFSIZE];
-                for (int read = body.read(buff); read >= 0; read = body.read(buff)) {
-                    out.write(buff, 0, read);
-                }
+                new Buffers().copy(body, out);
             }
         } else {
             throw new IOException("Invalid response: response code not found");
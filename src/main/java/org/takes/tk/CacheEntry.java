@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.takes.Response;
+import org.takes.rs.ResponseOf;
+
+/**
+ * Response in {@link ResponseCache}, with its head and body in memory.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class CacheEntry {
+
+    /**
+     * Bytes counted for an entry, in addition to its content.
+     */
+    private static final long OVERHEAD = 128L;
+
+    /**
+     * Head.
+     */
+    private final List<String> head;
+
+    /**
+     * Body.
+     */
+    private final byte[] body;
+
+    /**
+     * When the response was made, in milliseconds.
+     */
+    private final long born;
+
+    /**
+     * How long it stays fresh, in milliseconds.
+     */
+    private final long life;
+
+    /**
+     * May it be sent to requests of users?
+     */
+    private final boolean open;
+
+    /**
+     * Ctor.
+     * @param lines Head
+     * @param content Body
+     * @param time When the response was made, in milliseconds
+     * @param ttl How long it stays fresh, in milliseconds
+     * @param shared May it be sent to requests of users?
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    CacheEntry(final List<String> lines, final byte[] content,
+        final long time, final long ttl, final boolean shared) {
+        this.head = lines;
+        this.body = content;
+        this.born = time;
+        this.life = ttl;
+        this.open = shared;
+    }
+
+    /**
+     * Is it still fresh?
+     * @param now Current time, in milliseconds
+     * @return TRUE if it may be sent
+     */
+    boolean fresh(final long now) {
+        return now - this.born < this.life;
+    }
+
+    /**
+     * May it be sent to requests of users, with {@code Authorization}
+     * or {@code Cookie}?
+     * @return TRUE if its {@code Cache-Control} allows to share it
+     */
+    boolean shared() {
+        return this.open;
+    }
+
+    /**
+     * How much memory it takes, approximately.
+     * @return Bytes
+     */
+    long size() {
+        long size = CacheEntry.OVERHEAD + this.body.length;
+        for (final String line : this.head) {
+            size += line.length();
+        }
+        return size;
+    }
+
+    /**
+     * Response to send, with the {@code Age} header.
+     * @param now Current time, in milliseconds
+     * @return Response
+     */
+    Response response(final long now) {
+        final List<String> lines = new ArrayList<>(this.head.size() + 1);
+        lines.addAll(this.head);
+        lines.add(
+            new StringBuilder("Age: ")
+                .append(Math.max(0L, now - this.born) / 1000L)
+                .toString()
+        );
+        return new ResponseOf(lines, new ByteArrayInputStream(this.body));
+    }
+}
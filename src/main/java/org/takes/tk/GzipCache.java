@@ -0,0 +1,210 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.IoCheckedBytes;
+import org.cactoos.io.InputOf;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.rq.RqHref;
+import org.takes.rs.ResponseOf;
+import org.takes.rs.RsGzip;
+import org.takes.rs.RsHeaders;
+import org.takes.rs.RsWithBody;
+import org.takes.rs.RsWithHeader;
+
+/**
+ * Bodies compressed by {@link TkGzip}, in memory.
+ *
+ * <p>Bodies are kept by the URI and the strong {@code ETag} of the
+ * response, if there is one, or by the SHA-256 hash of the body
+ * otherwise. When the same body is sent again, it is not compressed,
+ * and, if it has an {@code ETag}, not even read. When bodies take more
+ * memory than the budget, the least recently used ones are dropped.
+ * Use one cache for one {@link TkGzip}:
+ *
+ * <pre> final GzipCache cache = new GzipCache(8L &lt;&lt; 20);
+ * new FtBasic(new TkGzip(new TkApp(), cache), 8080).start(Exit.NEVER);
+ * // later
+ * log.info("hits: {}, saved: {} bytes", cache.ratio(), cache.saved());</pre>
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+public final class GzipCache {
+
+    /**
+     * Bodies, by key.
+     */
+    private final LruBudget<GzipEntry> entries;
+
+    /**
+     * Bodies found in the cache.
+     */
+    private final AtomicLong found;
+
+    /**
+     * Bodies compressed.
+     */
+    private final AtomicLong missed;
+
+    /**
+     * Bytes not compressed, since they were found in the cache.
+     */
+    private final AtomicLong spared;
+
+    /**
+     * Ctor.
+     * @param bytes Maximum number of compressed bytes to keep
+     */
+    public GzipCache(final long bytes) {
+        this.entries = new LruBudget<>(bytes, GzipEntry::size);
+        this.found = new AtomicLong();
+        this.missed = new AtomicLong();
+        this.spared = new AtomicLong();
+    }
+
+    /**
+     * How many bodies were found in the cache.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.found.get();
+    }
+
+    /**
+     * How many bodies were compressed, since they were not in the cache.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.missed.get();
+    }
+
+    /**
+     * Share of bodies found in the cache.
+     * @return From 0 to 1, or 0 if nothing was asked yet
+     */
+    public double ratio() {
+        final long hits = this.found.get();
+        final long total = hits + this.missed.get();
+        final double ratio;
+        if (total == 0L) {
+            ratio = 0.0d;
+        } else {
+            ratio = (double) hits / total;
+        }
+        return ratio;
+    }
+
+    /**
+     * How many bytes were not compressed, since they were found in the
+     * cache.
+     * @return Bytes, before compression
+     */
+    public long saved() {
+        return this.spared.get();
+    }
+
+    /**
+     * Compressed response, made only when its head or body is needed.
+     * @param req Request
+     * @param origin Response to compress
+     * @return Response
+     */
+    Response zipped(final Request req, final Response origin) {
+        final IoChecked<Response> made = new IoChecked<>(
+            new Sticky<>(() -> this.make(req, origin))
+        );
+        return new ResponseOf(
+            () -> made.value().head(),
+            () -> made.value().body()
+        );
+    }
+
+    /**
+     * Compressed response, from the cache or compressed now.
+     * @param req Request
+     * @param origin Response to compress
+     * @return Response
+     * @throws IOException If fails
+     */
+    private Response make(final Request req, final Response origin)
+        throws IOException {
+        final IoChecked<byte[]> plain = new IoChecked<>(
+            new Sticky<>(
+                () -> new IoCheckedBytes(
+                    new BytesOf(new InputOf(origin.body()))
+                ).asBytes()
+            )
+        );
+        final String tag = GzipCache.tag(origin);
+        final String key;
+        if (tag.isEmpty()) {
+            key = GzipCache.hash(plain.value());
+        } else {
+            key = new StringBuilder(new RqHref.Base(req).href().toString())
+                .append('\n').append(tag).toString();
+        }
+        GzipEntry entry = this.entries.get(key);
+        if (entry == null) {
+            this.missed.incrementAndGet();
+            entry = new GzipEntry(
+                new IoCheckedBytes(
+                    new BytesOf(
+                        new InputOf(
+                            new RsGzip(new RsWithBody(plain.value())).body()
+                        )
+                    )
+                ).asBytes(),
+                plain.value().length
+            );
+            this.entries.put(key, entry);
+        } else {
+            this.found.incrementAndGet();
+            this.spared.addAndGet(entry.plain());
+        }
+        return new RsWithHeader(
+            new RsWithBody(origin, entry.body()), "Content-Encoding", "gzip"
+        );
+    }
+
+    /**
+     * Strong entity tag of the response.
+     * @param res Response
+     * @return Tag or empty string, if there is none or it is weak
+     * @throws IOException If fails
+     */
+    private static String tag(final Response res) throws IOException {
+        String tag = new RsHeaders.Smart(res).single("ETag", "").trim();
+        if (tag.startsWith("W/")) {
+            tag = "";
+        }
+        return tag;
+    }
+
+    /**
+     * Hash of the body.
+     * @param body Body
+     * @return SHA-256 in Base64
+     */
+    private static String hash(final byte[] body) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(body)
+            );
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+/**
+ * Body compressed by GZIP, kept by {@link GzipCache}.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class GzipEntry {
+
+    /**
+     * Compressed body.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Length of the body before compression.
+     */
+    private final long length;
+
+    /**
+     * Ctor.
+     * @param zipped Compressed body
+     * @param size Length of the body before compression
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    GzipEntry(final byte[] zipped, final long size) {
+        this.bytes = zipped;
+        this.length = size;
+    }
+
+    /**
+     * Compressed body.
+     * @return Bytes, which must not be modified
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    byte[] body() {
+        return this.bytes;
+    }
+
+    /**
+     * Length of the body before compression.
+     * @return Bytes
+     */
+    long plain() {
+        return this.length;
+    }
+
+    /**
+     * Memory taken.
+     * @return Bytes
+     */
+    long size() {
+        return this.bytes.length;
+    }
+}
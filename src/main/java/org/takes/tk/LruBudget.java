@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Values by keys, which take no more bytes than the budget, for
+ * {@link ResponseCache} and {@link GzipCache}.
+ *
+ * <p>When a new value doesn't fit into the budget, the least recently
+ * used values are dropped. A value larger than the whole budget is
+ * not kept at all.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @param <V> Type of values
+ * @since 2.0
+ */
+final class LruBudget<V> {
+
+    /**
+     * Values, by key, in access order.
+     */
+    private final Map<String, V> entries;
+
+    /**
+     * Maximum number of bytes to keep.
+     */
+    private final long budget;
+
+    /**
+     * Size of a value, in bytes.
+     */
+    private final ToLongFunction<V> sizes;
+
+    /**
+     * Bytes taken by the values.
+     */
+    private long used;
+
+    /**
+     * Ctor.
+     * @param bytes Maximum number of bytes to keep
+     * @param size Size of a value, in bytes
+     */
+    LruBudget(final long bytes, final ToLongFunction<V> size) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.budget = bytes;
+        this.sizes = size;
+    }
+
+    /**
+     * Value by the key, which becomes the most recently used.
+     * @param key Key
+     * @return Value or NULL, if it is absent
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+    V get(final String key) {
+        synchronized (this.entries) {
+            return this.entries.get(key);
+        }
+    }
+
+    /**
+     * Put the value, dropping the least recently used ones, if there
+     * is no room for it.
+     * @param key Key
+     * @param value Value
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+    void put(final String key, final V value) {
+        final long size = this.sizes.applyAsLong(value);
+        if (size <= this.budget) {
+            synchronized (this.entries) {
+                final V old = this.entries.put(key, value);
+                if (old != null) {
+                    this.used -= this.sizes.applyAsLong(old);
+                }
+                this.used += size;
+                final Iterator<V> eldest = this.entries.values().iterator();
+                while (this.used > this.budget) {
+                    this.used -= this.sizes.applyAsLong(eldest.next());
+                    eldest.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the value, if it is still kept by the key.
+     * @param key Key
+     * @param value Value
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+    void remove(final String key, final V value) {
+        synchronized (this.entries) {
+            if (this.entries.remove(key, value)) {
+                this.used -= this.sizes.applyAsLong(value);
+            }
+        }
+    }
+
+    /**
+     * Drop the values with matching keys.
+     * @param keys Which keys to drop
+     */
+    @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+    void remove(final Predicate<String> keys) {
+        synchronized (this.entries) {
+            final Iterator<Map.Entry<String, V>> all =
+                this.entries.entrySet().iterator();
+            while (all.hasNext()) {
+                final Map.Entry<String, V> entry = all.next();
+                if (keys.test(entry.getKey())) {
+                    this.used -= this.sizes.applyAsLong(entry.getValue());
+                    all.remove();
+                }
+            }
+        }
+    }
+}
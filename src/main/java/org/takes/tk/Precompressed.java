@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Func;
+import org.cactoos.func.IoCheckedFunc;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.facets.fork.FkEncoding;
+import org.takes.facets.fork.Fork;
+import org.takes.facets.fork.RsFork;
+import org.takes.misc.Opt;
+import org.takes.rs.RsWithHeader;
+
+/**
+ * Static resource, compressed in advance.
+ *
+ * <p>If there are siblings of the resource with {@code .br} or
+ * {@code .gz} suffixes, like {@code app.js.br} next to {@code app.js},
+ * the one the client accepts, by {@link FkEncoding}, is sent as it is,
+ * with {@code Content-Encoding}, and nothing is compressed on the fly.
+ * Brotli is preferred to GZIP. Otherwise, the resource itself is sent.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class Precompressed {
+
+    /**
+     * Encodings and suffixes of siblings, the preferred first.
+     */
+    private static final String[][] SIBLINGS = {
+        {"br", ".br"},
+        {"gzip", ".gz"},
+    };
+
+    /**
+     * Request.
+     */
+    private final Request request;
+
+    /**
+     * Ctor.
+     * @param req Request
+     */
+    Precompressed(final Request req) {
+        this.request = req;
+    }
+
+    /**
+     * Response, with the sibling the client accepts, if there is any.
+     * @param plain The resource itself
+     * @param sibling Sibling by suffix, if it exists
+     * @return Response
+     * @throws IOException If fails
+     */
+    Response response(final Response plain,
+        final Func<String, Opt<Response>> sibling) throws IOException {
+        final IoCheckedFunc<String, Opt<Response>> found =
+            new IoCheckedFunc<>(sibling);
+        final List<Fork> forks = new ArrayList<>(Precompressed.SIBLINGS.length);
+        for (final String[] known : Precompressed.SIBLINGS) {
+            final Opt<Response> response = found.apply(known[1]);
+            if (response.has()) {
+                forks.add(
+                    new FkEncoding(
+                        known[0],
+                        new RsWithHeader(
+                            response.get(), "Content-Encoding", known[0]
+                        )
+                    )
+                );
+            }
+        }
+        final Response response;
+        if (forks.isEmpty()) {
+            response = plain;
+        } else {
+            forks.add(new FkEncoding("", plain));
+            response = new RsWithHeader(
+                new RsFork(this.request, forks), "Vary", "Accept-Encoding"
+            );
+        }
+        return response;
+    }
+}
@@ -0,0 +1,517 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.IoCheckedBytes;
+import org.cactoos.io.InputOf;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.Take;
+import org.takes.misc.Opt;
+import org.takes.rq.RqHeaders;
+import org.takes.rq.RqMethod;
+import org.takes.rq.RqRequestLine;
+import org.takes.rs.RsHeaders;
+import org.takes.rs.RsStatus;
+
+/**
+ * Responses of {@link TkCache}, in memory.
+ *
+ * <p>Responses are kept by method, URI and values of the request headers
+ * given, while they are fresh, according to their
+ * {@code Cache-Control}, or for the default time. When they take more
+ * memory than the budget, the least recently used ones are dropped.
+ * Only one request goes to the take for the same key at a time, while
+ * others wait for its response.
+ *
+ * <p>Requests with {@code Authorization} or {@code Cookie} may belong
+ * to a user, so, as RFC 7234 requires from a shared cache, they get
+ * and leave only responses that are explicitly shared by their
+ * {@code Cache-Control}: {@code public}, {@code s-maxage} or
+ * {@code must-revalidate}. Other requests go to the take directly.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+final class ResponseCache {
+
+    /**
+     * Directives of {@code Cache-Control} that forbid to keep a response.
+     */
+    private static final Pattern PRIVATE = Pattern.compile(
+        "(?:^|,)\\s*(?:no-store|no-cache|private)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Directives of {@code Cache-Control} that forbid to use a response
+     * kept before.
+     */
+    private static final Pattern REFRESH = Pattern.compile(
+        "(?:^|,)\\s*(?:no-cache|max-age\\s*=\\s*\"?0+\"?\\s*(?:,|$))",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Directives of {@code Cache-Control} that allow to share a response
+     * between users.
+     */
+    private static final Pattern PUBLIC = Pattern.compile(
+        "(?:^|,)\\s*(?:public|s-maxage|must-revalidate)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Directive of {@code Cache-Control} that tells how long a response
+     * is fresh.
+     */
+    private static final Pattern AGE = Pattern.compile(
+        "(?:^|,)\\s*(s-maxage|max-age)\\s*=\\s*\"?(\\d{1,9})\"?",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Cache control header.
+     */
+    private static final String CONTROL = "Cache-Control";
+
+    /**
+     * How long responses stay fresh by default, in milliseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Names of request headers that make the key, in lower case.
+     */
+    private final Collection<String> vary;
+
+    /**
+     * Responses, by key.
+     */
+    private final LruBudget<CacheEntry> entries;
+
+    /**
+     * Responses that are being made, by key.
+     */
+    private final Map<String, CompletableFuture<Opt<CacheEntry>>> pending;
+
+    /**
+     * Ctor.
+     * @param life How long responses stay fresh by default, in milliseconds
+     * @param bytes Maximum number of bytes to keep
+     * @param headers Names of request headers that make the key
+     */
+    ResponseCache(final long life, final long bytes,
+        final Collection<String> headers) {
+        this.ttl = life;
+        this.vary = headers;
+        this.entries = new LruBudget<>(bytes, CacheEntry::size);
+        this.pending = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Response to the request, from the cache or from the take.
+     * @param req Request
+     * @param take Take
+     * @return Response
+     * @throws Exception If fails
+     */
+    Response response(final Request req, final Take take) throws Exception {
+        final String method = new RqMethod.Base(req).method();
+        final String control = String.join(
+            ",", new RqHeaders.Base(req).header(ResponseCache.CONTROL)
+        );
+        final boolean safe = RqMethod.GET.equals(method)
+            || RqMethod.HEAD.equals(method);
+        final Response res;
+        if (safe && control.toLowerCase(Locale.ENGLISH).contains("no-store")) {
+            res = take.act(req);
+        } else if (safe) {
+            res = this.cached(
+                this.key(req, method),
+                req,
+                take,
+                !ResponseCache.REFRESH.matcher(control).find()
+            );
+        } else {
+            res = take.act(req);
+            this.invalidate(new RqRequestLine.Base(req).uri());
+        }
+        return res;
+    }
+
+    /**
+     * Response from the cache, or from the take, if there is none.
+     * @param key Key
+     * @param req Request
+     * @param take Take
+     * @param lookup May a response in the cache be used?
+     * @return Response
+     * @throws Exception If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Response cached(final String key, final Request req,
+        final Take take, final boolean lookup) throws Exception {
+        final Response res;
+        if (ResponseCache.identified(req)) {
+            res = this.personal(key, req, take, lookup);
+        } else {
+            res = this.shared(key, req, take, lookup);
+        }
+        return res;
+    }
+
+    /**
+     * Response to the request of a user, from the cache, if it is shared
+     * there, or from the take.
+     * @param key Key
+     * @param req Request
+     * @param take Take
+     * @param lookup May a response in the cache be used?
+     * @return Response
+     * @throws Exception If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Response personal(final String key, final Request req,
+        final Take take, final boolean lookup) throws Exception {
+        final long now = System.currentTimeMillis();
+        Opt<CacheEntry> hit = new Opt.Empty<>();
+        if (lookup) {
+            hit = this.find(key, now, true);
+        }
+        final Response res;
+        if (hit.has()) {
+            res = hit.get().response(now);
+        } else {
+            final Response origin = take.act(req);
+            res = ResponseCache.sent(
+                this.keep(key, origin, now, true), origin, now
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Response to the request of nobody in particular, from the cache,
+     * or from the take, if there is none.
+     * @param key Key
+     * @param req Request
+     * @param take Take
+     * @param lookup May a response in the cache be used?
+     * @return Response
+     * @throws Exception If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Response shared(final String key, final Request req,
+        final Take take, final boolean lookup) throws Exception {
+        final long now = System.currentTimeMillis();
+        Opt<CacheEntry> hit = new Opt.Empty<>();
+        if (lookup) {
+            hit = this.find(key, now, false);
+        }
+        final Response res;
+        if (hit.has()) {
+            res = hit.get().response(now);
+        } else {
+            final CompletableFuture<Opt<CacheEntry>> mine =
+                new CompletableFuture<>();
+            final CompletableFuture<Opt<CacheEntry>> other =
+                this.pending.putIfAbsent(key, mine);
+            if (other == null) {
+                res = this.lead(key, req, take, mine);
+            } else {
+                res = ResponseCache.follow(other, req, take);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Make the response by the take and keep it, if it may be kept.
+     * @param key Key
+     * @param req Request
+     * @param take Take
+     * @param mine Future of the response, for others to wait
+     * @return Response
+     * @throws Exception If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Response lead(final String key, final Request req,
+        final Take take, final CompletableFuture<Opt<CacheEntry>> mine)
+        throws Exception {
+        Opt<CacheEntry> made = new Opt.Empty<>();
+        try {
+            final long now = System.currentTimeMillis();
+            final Response origin = take.act(req);
+            made = this.keep(key, origin, now, false);
+            return ResponseCache.sent(made, origin, now);
+        } finally {
+            mine.complete(made);
+            this.pending.remove(key, mine);
+        }
+    }
+
+    /**
+     * Wait for the response made by another request, or make it, if it
+     * can't be shared.
+     * @param other Future of the response
+     * @param req Request
+     * @param take Take
+     * @return Response
+     * @throws Exception If fails
+     */
+    private static Response follow(
+        final CompletableFuture<Opt<CacheEntry>> other, final Request req,
+        final Take take) throws Exception {
+        final Opt<CacheEntry> made;
+        try {
+            made = other.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for response", ex);
+        } catch (final ExecutionException ex) {
+            throw new IOException("Failed to wait for response", ex);
+        }
+        final Response res;
+        if (made.has()) {
+            res = made.get().response(System.currentTimeMillis());
+        } else {
+            res = take.act(req);
+        }
+        return res;
+    }
+
+    /**
+     * Keep the response, if it may be kept.
+     * @param key Key
+     * @param origin Response of the take
+     * @param now When it is made, in milliseconds
+     * @param personal Is it made for a user?
+     * @return The response kept, if it is
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Opt<CacheEntry> keep(final String key, final Response origin,
+        final long now, final boolean personal) throws IOException {
+        final long life = this.lifetime(origin, personal);
+        final Opt<CacheEntry> kept;
+        if (life > 0L) {
+            final CacheEntry entry = ResponseCache.entry(origin, now, life);
+            this.entries.put(key, entry);
+            kept = new Opt.Single<>(entry);
+        } else {
+            kept = new Opt.Empty<>();
+        }
+        return kept;
+    }
+
+    /**
+     * Response to send.
+     * @param kept The response kept, if it is
+     * @param origin Response of the take
+     * @param now When it is made, in milliseconds
+     * @return Response
+     */
+    private static Response sent(final Opt<CacheEntry> kept,
+        final Response origin, final long now) {
+        final Response res;
+        if (kept.has()) {
+            res = kept.get().response(now);
+        } else {
+            res = origin;
+        }
+        return res;
+    }
+
+    /**
+     * How long the response may be kept.
+     *
+     * <p>It must not be kept if it varies by a header, which is not in
+     * the key, or if it is made for a user and is not shared explicitly.
+     *
+     * @param res Response
+     * @param personal Is it made for a user?
+     * @return Milliseconds, zero if it must not be kept
+     * @throws IOException If fails
+     */
+    private long lifetime(final Response res, final boolean personal)
+        throws IOException {
+        final RsHeaders.Smart headers = new RsHeaders.Smart(res);
+        final String control = String.join(
+            ",", headers.header(ResponseCache.CONTROL)
+        );
+        final boolean covered = this.covered(headers)
+            && (!personal || ResponseCache.PUBLIC.matcher(control).find());
+        long life = 0L;
+        if (covered
+            && new RsStatus.Base(res).status() == HttpURLConnection.HTTP_OK
+            && headers.header("Set-Cookie").isEmpty()
+            && !ResponseCache.PRIVATE.matcher(control).find()) {
+            life = this.ttl;
+            final Matcher age = ResponseCache.AGE.matcher(control);
+            while (age.find()) {
+                life = TimeUnit.SECONDS.toMillis(Long.parseLong(age.group(2)));
+                if ("s-maxage".equalsIgnoreCase(age.group(1))) {
+                    break;
+                }
+            }
+        }
+        return life;
+    }
+
+    /**
+     * Does the key cover all headers the response varies by?
+     * @param headers Headers of the response
+     * @return TRUE if it does
+     * @throws IOException If fails
+     */
+    private boolean covered(final RsHeaders headers) throws IOException {
+        boolean covered = true;
+        for (final String value : headers.header("Vary")) {
+            for (final String name : value.split(",")) {
+                final String lower = name.trim().toLowerCase(Locale.ENGLISH);
+                covered &= lower.isEmpty() || this.vary.contains(lower);
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * Key of the request.
+     * @param req Request
+     * @param method Method of it
+     * @return Key
+     * @throws IOException If fails
+     */
+    private String key(final Request req, final String method)
+        throws IOException {
+        final StringBuilder key = new StringBuilder(method).append(' ')
+            .append(new RqRequestLine.Base(req).uri()).append('\n');
+        final RqHeaders headers = new RqHeaders.Base(req);
+        for (final String name : this.vary) {
+            key.append(name).append(": ")
+                .append(String.join(",", headers.header(name)))
+                .append('\n');
+        }
+        return key.toString();
+    }
+
+    /**
+     * Fresh response in the cache.
+     * @param key Key
+     * @param now Current time, in milliseconds
+     * @param personal Is it asked for a user?
+     * @return The response, if there is one
+     */
+    private Opt<CacheEntry> find(final String key, final long now,
+        final boolean personal) {
+        final CacheEntry entry = this.entries.get(key);
+        final Opt<CacheEntry> found;
+        if (entry == null) {
+            found = new Opt.Empty<>();
+        } else if (entry.fresh(now)) {
+            found = ResponseCache.visible(entry, personal);
+        } else {
+            this.entries.remove(key, entry);
+            found = new Opt.Empty<>();
+        }
+        return found;
+    }
+
+    /**
+     * Drop responses to {@code GET} and {@code HEAD} of the URI, since
+     * it was changed by another method.
+     * @param uri URI
+     */
+    private void invalidate(final String uri) {
+        final String suffix = new StringBuilder(" ").append(uri)
+            .append('\n').toString();
+        this.entries.remove(
+            key -> key.startsWith(RqMethod.GET + suffix)
+                || key.startsWith(RqMethod.HEAD + suffix)
+        );
+    }
+
+    /**
+     * Does the request belong to a user?
+     * @param req Request
+     * @return TRUE if it has {@code Authorization} or {@code Cookie}
+     * @throws IOException If fails
+     */
+    private static boolean identified(final Request req)
+        throws IOException {
+        final RqHeaders headers = new RqHeaders.Base(req);
+        return !headers.header("Authorization").isEmpty()
+            || !headers.header("Cookie").isEmpty();
+    }
+
+    /**
+     * The response in the cache, if it may be sent to the request.
+     * @param entry Response
+     * @param personal Is it asked for a user?
+     * @return The response, or nothing if it is not shared with users
+     */
+    private static Opt<CacheEntry> visible(final CacheEntry entry,
+        final boolean personal) {
+        final Opt<CacheEntry> visible;
+        if (!personal || entry.shared()) {
+            visible = new Opt.Single<>(entry);
+        } else {
+            visible = new Opt.Empty<>();
+        }
+        return visible;
+    }
+
+    /**
+     * Read the response into memory.
+     * @param res Response
+     * @param now When it is made, in milliseconds
+     * @param life How long it stays fresh, in milliseconds
+     * @return Entry
+     * @throws IOException If fails
+     */
+    private static CacheEntry entry(final Response res, final long now,
+        final long life) throws IOException {
+        final byte[] body;
+        try (InputStream input = res.body()) {
+            body = new IoCheckedBytes(new BytesOf(new InputOf(input)))
+                .asBytes();
+        }
+        final List<String> head = new ArrayList<>(0);
+        boolean shared = false;
+        for (final String line : res.head()) {
+            final String lower = line.toLowerCase(Locale.ENGLISH);
+            if (!lower.startsWith("content-length:")
+                && !lower.startsWith("transfer-encoding:")
+                && !lower.startsWith("age:")) {
+                head.add(line);
+            }
+            shared |= lower.startsWith("cache-control:")
+                && ResponseCache.PUBLIC.matcher(lower.substring(14)).find();
+        }
+        head.add(
+            new StringBuilder("Content-Length: ").append(body.length)
+                .toString()
+        );
+        return new CacheEntry(head, body, now, life, shared);
+    }
+}
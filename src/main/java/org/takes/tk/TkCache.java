@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.takes.Take;
+
+/**
+ * Take decorator that keeps responses in memory and sends them again
+ * to the same requests.
+ *
+ * <p>Responses to {@code GET} and {@code HEAD} requests with status 200
+ * are read into memory, head and body, and kept by the method, the URI
+ * and the values of the request headers given, for example:
+ *
+ * <pre>{@code
+ * new TkCache(
+ *     new TkFork(new FkRegex("/prices", new TkPrices())),
+ *     TimeUnit.MINUTES.toMillis(5L), 32L << 20, "Accept-Encoding"
+ * );
+ * }</pre>
+ *
+ * <p>A response is kept as long as its {@code Cache-Control} says,
+ * by {@code s-maxage} or {@code max-age}, or for the default time.
+ * Responses with {@code no-store}, {@code no-cache} or {@code private},
+ * with {@code Set-Cookie} or with {@code Vary} by a header, which is
+ * not among those given, are not kept. A request with {@code no-store}
+ * goes to the take, a request with {@code no-cache} or
+ * {@code max-age=0} refreshes the response. Requests with other methods
+ * drop the responses kept for their URI. Requests with
+ * {@code Authorization} or {@code Cookie}, like those behind
+ * {@link org.takes.facets.auth.TkAuth}, get and leave only responses
+ * with {@code public}, {@code s-maxage} or {@code must-revalidate}, so
+ * the page of one user is never sent to another.
+ *
+ * <p>When the responses take more bytes than the budget, the least
+ * recently used ones are dropped. When many requests with the same key
+ * come together and there is no response for them yet, only one of them
+ * goes to the take, while others wait for its response.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class TkCache extends TkWrap {
+
+    /**
+     * Default number of bytes to keep.
+     */
+    private static final long BUDGET = 16L * 1024L * 1024L;
+
+    /**
+     * Ctor.
+     *
+     * <p>Responses are kept for a minute by default, in 16 megabytes.
+     *
+     * @param take Original take
+     */
+    public TkCache(final Take take) {
+        this(take, TimeUnit.MINUTES.toMillis(1L), TkCache.BUDGET);
+    }
+
+    /**
+     * Ctor.
+     * @param take Original take
+     * @param ttl How long responses are kept by default, in milliseconds
+     * @param budget Maximum number of bytes to keep
+     * @param headers Names of request headers to tell responses apart by
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public TkCache(final Take take, final long ttl, final long budget,
+        final String... headers) {
+        this(
+            take,
+            new ResponseCache(
+                ttl, budget,
+                new ListOf<>(
+                    new Mapped<>(
+                        name -> name.toLowerCase(Locale.ENGLISH),
+                        new ListOf<>(headers)
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param take Original take
+     * @param cache Responses
+     */
+    private TkCache(final Take take, final ResponseCache cache) {
+        super(req -> cache.response(req, take));
+    }
+}
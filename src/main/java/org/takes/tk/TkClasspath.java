@@ -4,9 +4,14 @@
  */
 package org.takes.tk;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.HttpURLConnection;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.jar.JarEntry;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.text.FormattedText;
@@ -15,8 +20,10 @@ import org.takes.HttpException;
 import org.takes.Request;
 import org.takes.Response;
 import org.takes.Take;
+import org.takes.misc.Opt;
 import org.takes.rq.RqHref;
 import org.takes.rs.RsWithBody;
+import org.takes.rs.RsWithValidators;
 
 /**
  * Take that serves static resources from Java classpath.
@@ -65,7 +72,13 @@ import org.takes.rs.RsWithBody;
  *
  * <p>The response includes appropriate HTTP headers with Content-Length
  * calculated from resource size. Binary resources are served efficiently
- * using stream-based responses to minimize memory usage.
+ * using stream-based responses to minimize memory usage. Ranges of
+ * resources are sent as {@link TkRange} does. Resources have {@code ETag}
+ * and {@code Last-Modified} headers, if the time of their modification is
+ * known, and conditional requests are answered by {@link TkConditional}.
+ * Resources with {@code .br} or {@code .gz} suffixes next to the
+ * requested one are sent instead, with {@code Content-Encoding}, if the
+ * client accepts that encoding.
  *
  * <p>If a requested resource is not found on the classpath, an
  * {@link org.takes.HttpException} with HTTP 404 status is thrown,
@@ -94,24 +107,114 @@ public final class TkClasspath extends TkWrap {
      */
     public TkClasspath(final String prefix) {
         super(
-            new Take() {
-                @Override
-                public Response act(final Request request) throws IOException {
-                    final String name = TkClasspath.resource(prefix, request);
-                    final InputStream input = this.getClass()
-                        .getResourceAsStream(name);
-                    if (input == null) {
-                        throw new HttpException(
-                            HttpURLConnection.HTTP_NOT_FOUND,
-                            TkClasspath.missing(name)
-                        );
+            new TkConditional(
+                new TkRange(
+                    new Take() {
+                        @Override
+                        public Response act(final Request request)
+                            throws IOException {
+                            final String name =
+                                TkClasspath.resource(prefix, request);
+                            final URL url = this.getClass().getResource(name);
+                            if (url == null) {
+                                throw new HttpException(
+                                    HttpURLConnection.HTTP_NOT_FOUND,
+                                    TkClasspath.missing(name)
+                                );
+                            }
+                            return new Precompressed(request).response(
+                                TkClasspath.validated(url),
+                                ext -> TkClasspath.sibling(name.concat(ext))
+                            );
+                        }
                     }
-                    return new RsWithBody(input);
-                }
-            }
+                )
+            )
         );
     }
 
+    /**
+     * Response with the resource and its validators, if the time of its
+     * modification is known.
+     *
+     * <p>The time and the size are taken from the file or from the entry
+     * of the JAR, so the resource is not opened before its body is sent.
+     *
+     * @param url URL of the resource
+     * @return Response
+     * @throws IOException If fails
+     */
+    private static Response validated(final URL url) throws IOException {
+        final URLConnection conn = url.openConnection();
+        final Response response;
+        if (conn instanceof JarURLConnection) {
+            final JarEntry entry = ((JarURLConnection) conn).getJarEntry();
+            response = TkClasspath.validated(
+                new RsWithBody(url, entry.getSize()),
+                entry.getTime(),
+                entry.getSize()
+            );
+        } else if ("file".equals(url.getProtocol())) {
+            final File file = TkClasspath.file(url);
+            response = TkClasspath.validated(
+                new RsWithBody(file), file.lastModified(), file.length()
+            );
+        } else {
+            response = new RsWithBody(url);
+        }
+        return response;
+    }
+
+    /**
+     * Response with validators, if the time of modification is known.
+     * @param res Response
+     * @param modified Time of modification, or zero or less if unknown
+     * @param size Size of the resource
+     * @return Response
+     */
+    private static Response validated(final Response res, final long modified,
+        final long size) {
+        final Response response;
+        if (modified > 0L) {
+            response = new RsWithValidators(res, modified, size);
+        } else {
+            response = res;
+        }
+        return response;
+    }
+
+    /**
+     * File of the resource.
+     * @param url URL of the resource, with {@code file} protocol
+     * @return File
+     * @throws IOException If the URL is broken
+     */
+    private static File file(final URL url) throws IOException {
+        try {
+            return new File(url.toURI());
+        } catch (final URISyntaxException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Response with the sibling resource, if it exists.
+     * @param name Name of the sibling
+     * @return Response or nothing
+     * @throws IOException If fails
+     */
+    private static Opt<Response> sibling(final String name)
+        throws IOException {
+        final URL url = TkClasspath.class.getResource(name);
+        final Opt<Response> response;
+        if (url == null) {
+            response = new Opt.Empty<>();
+        } else {
+            response = new Opt.Single<>(TkClasspath.validated(url));
+        }
+        return response;
+    }
+
     private static String resource(final String prefix, final Request request)
         throws IOException {
         return new UncheckedText(
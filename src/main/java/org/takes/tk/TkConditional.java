@@ -0,0 +1,279 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.Take;
+import org.takes.misc.Buffers;
+import org.takes.rq.RqHeaders;
+import org.takes.rq.RqMethod;
+import org.takes.rs.RsEmpty;
+import org.takes.rs.RsHeaders;
+import org.takes.rs.RsStatus;
+import org.takes.rs.RsWithBody;
+import org.takes.rs.RsWithHeader;
+import org.takes.rs.RsWithHeaders;
+import org.takes.rs.RsWithStatus;
+
+/**
+ * Take decorator that answers conditional requests with
+ * {@code 304 Not Modified}.
+ *
+ * <p>If the response to a {@code GET} or {@code HEAD} request has
+ * the status 200 and its {@code ETag} matches the
+ * {@code If-None-Match} header of the request, or, if there is no such
+ * header, its {@code Last-Modified} is not later than the
+ * {@code If-Modified-Since} header, the response becomes 304, without
+ * a body, as in RFC 7232. Only the head of the original response is
+ * read, its body is never opened:
+ *
+ * <pre>{@code
+ * new TkConditional(new TkFiles("/var/www/static"));
+ * }</pre>
+ *
+ * <p>{@link TkFiles} and {@link TkClasspath} do this already, with
+ * validators made of the time of modification and the size of files,
+ * see {@link org.takes.rs.RsWithValidators}.
+ *
+ * <p>A dynamic response usually has no validators. If asked to, this
+ * decorator reads its body into memory and makes the {@code ETag} from
+ * the SHA-256 hash of it, so a client doesn't download it again, while
+ * the take still makes it.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class TkConditional extends TkWrap {
+
+    /**
+     * Entity tag header.
+     */
+    private static final String ETAG = "ETag";
+
+    /**
+     * Headers of the original response to keep in 304, lowercase.
+     */
+    private static final Collection<String> KEPT = Arrays.asList(
+        "etag", "last-modified", "cache-control", "content-location",
+        "date", "expires", "vary"
+    );
+
+    /**
+     * Ctor.
+     * @param take Original take
+     */
+    public TkConditional(final Take take) {
+        this(take, false);
+    }
+
+    /**
+     * Ctor.
+     * @param take Original take
+     * @param hash Make {@code ETag} from the body, if there is none?
+     */
+    public TkConditional(final Take take, final boolean hash) {
+        super(
+            req -> {
+                Response res = take.act(req);
+                if (hash) {
+                    res = TkConditional.hashed(res);
+                }
+                final Response answer;
+                if (TkConditional.modified(req, res)) {
+                    answer = res;
+                } else {
+                    answer = TkConditional.unmodified(res);
+                }
+                return answer;
+            }
+        );
+    }
+
+    /**
+     * Is the response to be sent, according to the conditions?
+     * @param req Request
+     * @param res Response
+     * @return FALSE if the client has it already
+     * @throws IOException If fails
+     */
+    private static boolean modified(final Request req, final Response res)
+        throws IOException {
+        final String method = new RqMethod.Base(req).method();
+        boolean modified = !RqMethod.GET.equals(method)
+            && !RqMethod.HEAD.equals(method)
+            || new RsStatus.Base(res).status() != HttpURLConnection.HTTP_OK;
+        if (!modified) {
+            final RqHeaders.Smart rqh = new RqHeaders.Smart(req);
+            final RsHeaders.Smart rsh = new RsHeaders.Smart(res);
+            final String match = rqh.single("If-None-Match", "").trim();
+            if (match.isEmpty()) {
+                modified = TkConditional.later(
+                    rsh.single("Last-Modified", ""),
+                    rqh.single("If-Modified-Since", "")
+                );
+            } else {
+                modified = !TkConditional.matches(
+                    match, rsh.single(TkConditional.ETAG, "")
+                );
+            }
+        }
+        return modified;
+    }
+
+    /**
+     * Does the entity tag match any of the tags in the header, by weak
+     * comparison?
+     * @param header Value of {@code If-None-Match}
+     * @param etag Entity tag, may be empty
+     * @return TRUE if it matches
+     */
+    private static boolean matches(final String header, final String etag) {
+        boolean matches = false;
+        if (!etag.isEmpty()) {
+            final String tag = TkConditional.opaque(etag);
+            for (final String item : header.split(",")) {
+                final String trimmed = item.trim();
+                if ("*".equals(trimmed)
+                    || tag.equals(TkConditional.opaque(trimmed))) {
+                    matches = true;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Entity tag without the weakness indicator.
+     * @param etag Entity tag
+     * @return Opaque tag
+     */
+    private static String opaque(final String etag) {
+        final String tag = etag.trim();
+        final String opaque;
+        if (tag.startsWith("W/")) {
+            opaque = tag.substring(2);
+        } else {
+            opaque = tag;
+        }
+        return opaque;
+    }
+
+    /**
+     * Is the content modified after the date the client has it from?
+     * @param modified Value of {@code Last-Modified}, may be empty
+     * @param since Value of {@code If-Modified-Since}, may be empty
+     * @return TRUE if it is modified, or if any of the dates is unknown
+     */
+    private static boolean later(final String modified, final String since) {
+        boolean later = true;
+        if (!modified.isEmpty() && !since.isEmpty()) {
+            try {
+                later = ZonedDateTime.parse(
+                    modified.trim(), DateTimeFormatter.RFC_1123_DATE_TIME
+                ).isAfter(
+                    ZonedDateTime.parse(
+                        since.trim(), DateTimeFormatter.RFC_1123_DATE_TIME
+                    )
+                );
+            } catch (final DateTimeParseException ex) {
+                later = true;
+            }
+        }
+        return later;
+    }
+
+    /**
+     * Response 304 with the validators and caching headers of the
+     * original response, but without its body.
+     * @param res Original response
+     * @return Response
+     * @throws IOException If fails
+     */
+    private static Response unmodified(final Response res)
+        throws IOException {
+        final List<String> headers = new ArrayList<>(0);
+        for (final String line : res.head()) {
+            final int colon = line.indexOf(':');
+            if (colon > 0 && TkConditional.KEPT.contains(
+                line.substring(0, colon).trim().toLowerCase(Locale.ENGLISH)
+            )) {
+                headers.add(line);
+            }
+        }
+        return new RsWithStatus(
+            new RsWithHeaders(new RsEmpty(), headers),
+            HttpURLConnection.HTTP_NOT_MODIFIED
+        );
+    }
+
+    /**
+     * Add {@code ETag} made from the body, if there is none.
+     * @param res Response
+     * @return Response with {@code ETag}
+     * @throws IOException If fails
+     */
+    private static Response hashed(final Response res) throws IOException {
+        final Response hashed;
+        if (new RsStatus.Base(res).status() == HttpURLConnection.HTTP_OK
+            && new RsHeaders.Smart(res).single(TkConditional.ETAG, "")
+                .isEmpty()) {
+            final MessageDigest digest = TkConditional.digest();
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (
+                InputStream input = new DigestInputStream(res.body(), digest)
+            ) {
+                new Buffers().copy(input, body);
+            }
+            hashed = new RsWithHeader(
+                new RsWithBody(res, body.toByteArray()),
+                TkConditional.ETAG,
+                new StringBuilder("\"")
+                    .append(
+                        Base64.getUrlEncoder().withoutPadding()
+                            .encodeToString(digest.digest())
+                    )
+                    .append('"')
+            );
+        } else {
+            hashed = res;
+        }
+        return hashed;
+    }
+
+    /**
+     * SHA-256 digest.
+     * @return Digest
+     */
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
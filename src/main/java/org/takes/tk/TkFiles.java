@@ -8,13 +8,15 @@ import java.io.File;
 import java.net.HttpURLConnection;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.cactoos.io.InputOf;
 import org.cactoos.text.FormattedText;
 import org.cactoos.text.UncheckedText;
 import org.takes.HttpException;
+import org.takes.Response;
 import org.takes.Take;
+import org.takes.misc.Opt;
 import org.takes.rq.RqHref;
 import org.takes.rs.RsWithBody;
+import org.takes.rs.RsWithValidators;
 
 /**
  * Take that serves static files from filesystem directory.
@@ -38,6 +40,22 @@ import org.takes.rs.RsWithBody;
  * // Resolves to: /var/www/static/css/style.css
  * }</pre>
  *
+ * <p>Ranges of files are sent as {@link TkRange} does, so clients may
+ * resume downloads and seek in media files. Files have {@code ETag} and
+ * {@code Last-Modified} headers, made of their time of modification and
+ * size, and conditional requests are answered with 304 by
+ * {@link TkConditional}, without opening files.
+ *
+ * <p>The response has the exact {@code Content-Length} of the file, and
+ * {@link org.takes.http.BkBasic} sends the content with
+ * {@link java.nio.channels.FileChannel#transferTo}, without reading it
+ * into the heap.
+ *
+ * <p>If there are files with {@code .br} or {@code .gz} suffixes next to
+ * the requested one, like {@code app.js.br} and {@code app.js.gz}, and
+ * the client accepts that encoding, they are sent instead, with
+ * {@code Content-Encoding}, so nothing is compressed on the fly.
+ *
  * <p>Common use cases include:
  * <ul>
  * <li>Static asset serving (CSS, JavaScript, images)</li>
@@ -88,22 +106,57 @@ public final class TkFiles extends TkWrap {
      */
     public TkFiles(final File base) {
         super(
-            request -> {
-                final File file = new File(
-                    base, new RqHref.Base(request).href().path()
-                );
-                if (!file.exists()) {
-                    throw new HttpException(
-                        HttpURLConnection.HTTP_NOT_FOUND,
-                        new UncheckedText(
-                            new FormattedText(
-                                "%s not found", file.getAbsolutePath()
-                            )
-                        ).asString()
-                    );
-                }
-                return new RsWithBody(new InputOf(file).stream());
-            }
+            new TkConditional(
+                new TkRange(
+                    request -> {
+                        final File file = new File(
+                            base, new RqHref.Base(request).href().path()
+                        );
+                        if (!file.isFile()) {
+                            throw new HttpException(
+                                HttpURLConnection.HTTP_NOT_FOUND,
+                                new UncheckedText(
+                                    new FormattedText(
+                                        "%s not found", file.getAbsolutePath()
+                                    )
+                                ).asString()
+                            );
+                        }
+                        return new Precompressed(request).response(
+                            TkFiles.validated(file),
+                            ext -> TkFiles.sibling(file, ext)
+                        );
+                    }
+                )
+            )
+        );
+    }
+
+    /**
+     * Response with the file and its validators.
+     * @param file The file
+     * @return Response
+     */
+    private static Response validated(final File file) {
+        return new RsWithValidators(
+            new RsWithBody(file), file.lastModified(), file.length()
         );
     }
+
+    /**
+     * Response with the sibling of the file, if it exists.
+     * @param file The file
+     * @param ext Suffix of the sibling
+     * @return Response or nothing
+     */
+    private static Opt<Response> sibling(final File file, final String ext) {
+        final File sibling = new File(file.getPath().concat(ext));
+        final Opt<Response> response;
+        if (sibling.isFile()) {
+            response = new Opt.Single<>(TkFiles.validated(sibling));
+        } else {
+            response = new Opt.Empty<>();
+        }
+        return response;
+    }
 }
@@ -6,11 +6,14 @@ package org.takes.tk;
 
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.cactoos.BiFunc;
+import org.takes.Request;
 import org.takes.Response;
 import org.takes.Take;
 import org.takes.facets.fork.FkEncoding;
 import org.takes.facets.fork.RsFork;
 import org.takes.rs.RsGzip;
+import org.takes.rs.RsHeaders;
 
 /**
  * Take decorator that applies GZIP compression to responses.
@@ -66,12 +69,16 @@ import org.takes.rs.RsGzip;
  * <p>The decorator automatically handles compression headers including
  * Content-Encoding and adjusts Content-Length appropriately. Clients
  * that don't support GZIP receive uncompressed responses without any
- * compatibility issues.
+ * compatibility issues. Responses which already have Content-Encoding,
+ * like the ones compressed in advance by {@link TkFiles} and
+ * {@link TkClasspath}, are sent as they are.
  *
  * <p>Compression is applied on-the-fly during response generation,
  * balancing CPU usage with network efficiency. The implementation
  * is optimized for typical web content patterns and provides good
- * compression ratios with reasonable processing overhead.
+ * compression ratios with reasonable processing overhead. If the same
+ * bodies are sent again and again, give it a {@link GzipCache}, and they
+ * will be compressed only once.
  *
  * <p>The class is immutable and thread-safe.
  *
@@ -86,14 +93,41 @@ public final class TkGzip extends TkWrap {
      * @param take Original take to wrap with GZIP compression
      */
     public TkGzip(final Take take) {
+        this(take, (req, res) -> new RsGzip(res));
+    }
+
+    /**
+     * Ctor.
+     * @param take Original take to wrap with GZIP compression
+     * @param cache Bodies compressed before
+     * @since 2.0
+     */
+    public TkGzip(final Take take, final GzipCache cache) {
+        this(take, cache::zipped);
+    }
+
+    /**
+     * Ctor.
+     * @param take Original take to wrap with GZIP compression
+     * @param gzip Compressed response, by request and original response
+     */
+    private TkGzip(final Take take,
+        final BiFunc<Request, Response, Response> gzip) {
         super(
             req -> {
                 final Response response = take.act(req);
-                return new RsFork(
-                    req,
-                    new FkEncoding("gzip", new RsGzip(response)),
-                    new FkEncoding("", response)
-                );
+                final Response result;
+                if (new RsHeaders.Base(response)
+                    .header("Content-Encoding").isEmpty()) {
+                    result = new RsFork(
+                        req,
+                        new FkEncoding("gzip", gzip.apply(req, response)),
+                        new FkEncoding("", response)
+                    );
+                } else {
+                    result = response;
+                }
+                return result;
             }
         );
     }
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.Take;
+import org.takes.rq.RqHeaders;
+import org.takes.rq.RqMethod;
+import org.takes.rs.RsHeaders;
+import org.takes.rs.RsRange;
+
+/**
+ * Take decorator that sends only the ranges of the body a client asks
+ * for, in the {@code Range} header.
+ *
+ * <p>This {@link Take} decorator lets clients resume downloads and seek
+ * in media files, according to RFC 7233:
+ *
+ * <pre>{@code
+ * new TkRange(new TkFiles("/var/www/video"));
+ * }</pre>
+ *
+ * <p>The ranges are cut by {@link RsRange}, only for {@code GET}
+ * requests. If the request has {@code If-Range} header, ranges are sent
+ * only if it equals the strong {@code ETag} or the
+ * {@code Last-Modified} of the response, otherwise the entire body is
+ * sent.
+ *
+ * <p>{@link TkFiles} and {@link TkClasspath} support ranges already.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class TkRange extends TkWrap {
+
+    /**
+     * Ctor.
+     * @param take Original take
+     */
+    public TkRange(final Take take) {
+        super(
+            req -> {
+                final Response response = take.act(req);
+                return new RsRange(response, TkRange.ranges(req, response));
+            }
+        );
+    }
+
+    /**
+     * Ranges the client asks for.
+     * @param req Request
+     * @param res Response
+     * @return Value of the {@code Range} header, or empty if the
+     *  entire body must be sent
+     * @throws IOException If fails
+     */
+    private static String ranges(final Request req, final Response res)
+        throws IOException {
+        final RqHeaders.Smart headers = new RqHeaders.Smart(req);
+        String ranges = headers.single("Range", "");
+        if (!ranges.isEmpty()
+            && !RqMethod.GET.equals(new RqMethod.Base(req).method())) {
+            ranges = "";
+        }
+        final String cond = headers.single("If-Range", "").trim();
+        if (!ranges.isEmpty() && !cond.isEmpty()) {
+            final RsHeaders.Smart rsh = new RsHeaders.Smart(res);
+            final String etag = rsh.single("ETag", "").trim();
+            final boolean fresh = !cond.startsWith("W/") && cond.equals(etag)
+                || cond.equals(rsh.single("Last-Modified", "").trim());
+            if (!fresh) {
+                ranges = "";
+            }
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.fork;
+
+import java.util.regex.Pattern;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqMethod;
+import org.takes.rs.RsPrint;
+import org.takes.tk.TkEmpty;
+import org.takes.tk.TkText;
+
+/**
+ * Test case for {@link FkRouter}.
+ * @since 2.0
+ */
+final class FkRouterTest {
+
+    @Test
+    void routesToFirstMatchingForkInOrder() throws Exception {
+        MatcherAssert.assertThat(
+            "FkRouter must pick the first fork that matches, like FkChain",
+            new RsPrint(
+                new FkRouter(
+                    new FkRegex("/users/admin", "admin"),
+                    new FkRegex("/users/[a-z]+", "user"),
+                    new FkRegex("/users/a.*", "other")
+                ).route(new RqFake(RqMethod.GET, "/users/alice")).get()
+            ).printBody(),
+            Matchers.equalTo("user")
+        );
+    }
+
+    @Test
+    void passesMatcherToTarget() throws Exception {
+        MatcherAssert.assertThat(
+            "FkRouter must give the matcher of the pattern to the target",
+            new RsPrint(
+                new FkRouter(
+                    new FkRegex("/", "index"),
+                    new FkRegex(
+                        "/files/(?<name>[^/]+)",
+                        (TkRegex) req -> new TkText(
+                            req.matcher().group("name")
+                        ).act(req)
+                    )
+                ).route(new RqFake(RqMethod.GET, "/files/a.txt?v=1")).get()
+            ).printBody(),
+            Matchers.equalTo("a.txt")
+        );
+    }
+
+    @Test
+    void matchesIgnoringCase() throws Exception {
+        MatcherAssert.assertThat(
+            "FkRouter must match prefixes ignoring case, like FkRegex",
+            new FkRouter(
+                new FkRegex("/Account/\\d+", new TkEmpty())
+            ).route(new RqFake(RqMethod.GET, "/aCCount/42")).has(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void asksPatternsWithoutPrefix() throws Exception {
+        MatcherAssert.assertThat(
+            "FkRouter must fall back to regex when there is no literal prefix",
+            new FkRouter(
+                new FkRegex("/a/b", new TkEmpty()),
+                new FkRegex("/x|/y/z", new TkEmpty()),
+                new FkRegex(Pattern.compile("/"), new TkEmpty())
+            ).route(new RqFake(RqMethod.GET, "/y/z")).has(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void treatsOptionalCharacterAsNonLiteral() throws Exception {
+        MatcherAssert.assertThat(
+            "FkRouter must not require a character followed by a quantifier",
+            new FkRouter(
+                new FkRegex("/colou?r", new TkEmpty())
+            ).route(new RqFake(RqMethod.GET, "/color")).has(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void skipsAllForksOnMiss() throws Exception {
+        MatcherAssert.assertThat(
+            "FkRouter must return nothing if no fork matches",
+            new FkRouter(
+                new FkRegex("/a", new TkEmpty()),
+                new FkRegex("/b/(\\d+)", new TkEmpty())
+            ).route(new RqFake(RqMethod.GET, "/b/x")).has(),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Latency}.
+ * @since 2.0
+ */
+final class LatencyTest {
+
+    @Test
+    void findsQuantilesWithinBucketError() {
+        final Latency latency = new Latency();
+        for (long millis = 1L; millis <= 1000L; ++millis) {
+            latency.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        MatcherAssert.assertThat(
+            "Latency must find p50 and p99 with an error below 12.5%",
+            new Double[] {latency.quantile(0.5d), latency.quantile(0.99d)},
+            Matchers.arrayContaining(
+                Matchers.closeTo(0.5d, 0.0625d),
+                Matchers.closeTo(0.99d, 0.124d)
+            )
+        );
+    }
+
+    @Test
+    void sumsAndCountsLatencies() {
+        final Latency latency = new Latency();
+        latency.record(TimeUnit.MILLISECONDS.toNanos(250L));
+        latency.record(TimeUnit.MILLISECONDS.toNanos(750L));
+        MatcherAssert.assertThat(
+            "Latency must sum and count all latencies",
+            new double[] {latency.sum(), latency.count()},
+            Matchers.equalTo(new double[] {1.0d, 2.0d})
+        );
+    }
+
+    @Test
+    void isEmptyWithoutLatencies() {
+        MatcherAssert.assertThat(
+            "Latency must show zero quantiles when nothing is recorded",
+            new Latency().quantile(0.99d),
+            Matchers.equalTo(0.0d)
+        );
+    }
+}
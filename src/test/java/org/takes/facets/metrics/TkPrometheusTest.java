@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.facets.metrics;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.takes.HttpException;
+import org.takes.rq.RqFake;
+import org.takes.rs.RsPrint;
+import org.takes.tk.TkFailure;
+import org.takes.tk.TkText;
+
+/**
+ * Test case for {@link TkPrometheus} and {@link TkMetrics}.
+ * @since 2.0
+ */
+final class TkPrometheusTest {
+
+    @Test
+    void countsRequestsByStatus() throws Exception {
+        final Metrics metrics = new Metrics();
+        new TkMetrics(new TkText("hi"), metrics, "text").act(new RqFake());
+        new TkMetrics(new TkText("hi"), metrics, "text").act(new RqFake());
+        Assertions.assertThrows(
+            HttpException.class,
+            () -> new TkMetrics(
+                new TkFailure(new HttpException(404)), metrics, "text"
+            ).act(new RqFake())
+        );
+        MatcherAssert.assertThat(
+            "TkPrometheus must show requests by route and class of status",
+            new RsPrint(new TkPrometheus(metrics).act(new RqFake())).asString(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "takes_requests_total{route=\"text\",status=\"2xx\"} 2\n"
+                ),
+                Matchers.containsString(
+                    "takes_requests_total{route=\"text\",status=\"4xx\"} 1\n"
+                ),
+                Matchers.containsString(
+                    "takes_requests_in_flight{route=\"text\"} 0\n"
+                ),
+                Matchers.containsString(
+                    "takes_request_duration_seconds_count{route=\"text\"} 3\n"
+                ),
+                Matchers.containsString(
+                    "# TYPE takes_request_duration_seconds summary\n"
+                )
+            )
+        );
+    }
+
+    @Test
+    void escapesRouteNames() throws Exception {
+        final Metrics metrics = new Metrics();
+        new TkMetrics(new TkText(""), metrics, "a\"b\\c").act(new RqFake());
+        MatcherAssert.assertThat(
+            "TkPrometheus must escape quotes and backslashes in labels",
+            new RsPrint(new TkPrometheus(metrics).act(new RqFake())).asString(),
+            Matchers.containsString(
+                "takes_requests_in_flight{route=\"a\\\"b\\\\c\"} 0\n"
+            )
+        );
+    }
+
+    @Test
+    void countsRequestsInFlight() throws Exception {
+        final Metrics metrics = new Metrics();
+        MatcherAssert.assertThat(
+            "TkMetrics must count the request in flight while the take acts",
+            new RsPrint(
+                new TkMetrics(new TkPrometheus(metrics), metrics, "self")
+                    .act(new RqFake())
+            ).asString(),
+            Matchers.containsString(
+                "takes_requests_in_flight{route=\"self\"} 1\n"
+            )
+        );
+    }
+}
@@ -0,0 +1,10 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Metrics, tests.
+ * @since 2.0
+ */
+package org.takes.facets.metrics;
@@ -18,6 +18,7 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.text.Joined;
@@ -34,6 +35,8 @@ import org.takes.rq.RqHeaders;
 import org.takes.rq.RqPrint;
 import org.takes.rq.RqSocket;
 import org.takes.rs.ResponseOf;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithBody;
 import org.takes.tk.TkText;
 
 /**
@@ -96,6 +99,41 @@ final class BkBasicTest {
         );
     }
 
+    @Test
+    void reportsTimingOfPhases() throws Exception {
+        final AtomicReference<Exchange> timing = new AtomicReference<>();
+        new BkBasic(
+            req -> {
+                TimeUnit.MILLISECONDS.sleep(50L);
+                return new ResponseOf(
+                    () -> {
+                        TimeUnit.MILLISECONDS.sleep(30L);
+                        return new RsText("").head();
+                    },
+                    () -> new RsText("").body()
+                );
+            },
+            timing::set
+        ).accept(BkBasicTest.createMockSocket());
+        MatcherAssert.assertThat(
+            "BkBasic must report the time of act()",
+            timing.get().act(),
+            Matchers.greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50L))
+        );
+        MatcherAssert.assertThat(
+            "BkBasic must report the time of the lazy head before first byte",
+            timing.get().firstByte(),
+            Matchers.greaterThanOrEqualTo(
+                timing.get().act() + timing.get().render()
+            )
+        );
+        MatcherAssert.assertThat(
+            "BkBasic must report the time of rendering the lazy head",
+            timing.get().render(),
+            Matchers.greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30L))
+        );
+    }
+
     @Test
     void localAddressHeaderHasNoSlashes() throws Exception {
         final RqHeaders.Smart smart = new RqHeaders.Smart(
@@ -358,6 +396,186 @@ final class BkBasicTest {
         );
     }
 
+    @Test
+    void sendsBodyOfUnknownLengthInChunks() throws Exception {
+        final MkSocket socket = BkBasicTest.createMockSocket();
+        final ByteArrayOutputStream baos = socket.bufferedOutput();
+        new BkBasic(
+            req -> new RsWithBody(
+                new ByteArrayInputStream(
+                    "streamed".getBytes(StandardCharsets.UTF_8)
+                )
+            )
+        ).accept(socket);
+        MatcherAssert.assertThat(
+            "Body of unknown length must be sent in chunks",
+            baos.toString(StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.containsString("Transfer-Encoding: chunked"),
+                Matchers.not(Matchers.containsString("Content-Length")),
+                Matchers.endsWith(
+                    new Joined(
+                        BkBasicTest.CRLF, "", "8", "streamed", "0", "", ""
+                    ).asString()
+                )
+            )
+        );
+    }
+
+    @Test
+    void servesPipelinedRequestsInOrder() throws Exception {
+        final MkSocket socket = BkBasicTest.pipelined(
+            "POST /first HTTP/1.1", "Content-Length: 5", "", "12345",
+            "GET /second HTTP/1.1", "", "",
+            "GET /third HTTP/1.1", "", ""
+        );
+        new BkBasic(
+            req -> new RsText(req.head().iterator().next())
+        ).accept(socket);
+        MatcherAssert.assertThat(
+            "Pipelined requests must be answered in the order of arrival",
+            socket.bufferedOutput().toString(StandardCharsets.UTF_8),
+            RegexMatchers.containsPattern(
+                "(?s)200 OK.*/first.*200 OK.*/second.*200 OK.*/third"
+            )
+        );
+    }
+
+    @Test
+    void sendsNoBodyToHeadOnPersistentConnection() throws Exception {
+        final MkSocket socket = BkBasicTest.pipelined(
+            "HEAD /a HTTP/1.1", "", "",
+            "GET /b HTTP/1.1", "", ""
+        );
+        new BkBasic(
+            req -> new RsText(req.head().iterator().next()),
+            new KeepAlive(2000L)
+        ).accept(socket);
+        MatcherAssert.assertThat(
+            "Response to HEAD must have no body, while the next one must",
+            socket.bufferedOutput().toString(StandardCharsets.UTF_8),
+            Matchers.allOf(
+                RegexMatchers.containsPattern(
+                    "(?s)^HTTP/1.1 200 OK.*Content-Length: 16.*HTTP/1.1 200 OK"
+                ),
+                Matchers.not(Matchers.containsString("HEAD /a")),
+                Matchers.endsWith("GET /b HTTP/1.1")
+            )
+        );
+    }
+
+    @Test
+    void closesConnectionWhenClientAsks() throws Exception {
+        final MkSocket socket = BkBasicTest.pipelined(
+            "GET /a HTTP/1.1", "Connection: close", "", "",
+            "GET /b HTTP/1.1", "", ""
+        );
+        new BkBasic(new TkText("closed")).accept(socket);
+        MatcherAssert.assertThat(
+            "The only response must tell that the connection is closed",
+            socket.bufferedOutput().toString(StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.containsString("Connection: close"),
+                Matchers.not(
+                    RegexMatchers.containsPattern("(?s)closed.*closed")
+                )
+            )
+        );
+    }
+
+    @Test
+    void limitsRequestsPerConnection() throws Exception {
+        final MkSocket socket = BkBasicTest.pipelined(
+            "GET /a HTTP/1.1", "", "",
+            "GET /b HTTP/1.1", "", "",
+            "GET /c HTTP/1.1", "", ""
+        );
+        new BkBasic(
+            req -> new RsText(req.head().iterator().next()),
+            new KeepAlive(0L, 2)
+        ).accept(socket);
+        MatcherAssert.assertThat(
+            "The last allowed response must close the connection",
+            socket.bufferedOutput().toString(StandardCharsets.UTF_8),
+            Matchers.allOf(
+                RegexMatchers.containsPattern("(?s)/a.*Connection: close.*/b"),
+                Matchers.not(Matchers.containsString("/c"))
+            )
+        );
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void awaitsNextRequestOnIdleConnection() throws Exception {
+        final String text = "Hello Again!";
+        try (ServerSocket server = new ServerSocket(0)) {
+            new Thread(
+                () -> {
+                    try {
+                        new BkBasic(
+                            new TkText(text), new KeepAlive(5000L)
+                        ).accept(server.accept());
+                    } catch (final IOException exception) {
+                        throw new IllegalStateException(exception);
+                    }
+                }
+            ).start();
+            try (
+                Socket socket = new Socket(
+                    InetAddress.getLoopbackAddress(),
+                    server.getLocalPort()
+                )
+            ) {
+                final byte[] request = new Joined(
+                    BkBasicTest.CRLF, "GET / HTTP/1.1", BkBasicTest.HOST, "", ""
+                ).asString().getBytes(StandardCharsets.UTF_8);
+                socket.getOutputStream().write(request);
+                BkBasicTest.readUntil(socket.getInputStream(), text);
+                TimeUnit.MILLISECONDS.sleep(100L);
+                socket.getOutputStream().write(request);
+                MatcherAssert.assertThat(
+                    "The second request must be answered on the same socket",
+                    BkBasicTest.readUntil(socket.getInputStream(), text),
+                    Matchers.containsString("200 OK")
+                );
+            }
+        }
+    }
+
+    /**
+     * Read from the stream until the text is seen.
+     * @param input Stream
+     * @param text Text
+     * @return What was read
+     * @throws IOException If fails
+     */
+    private static String readUntil(final InputStream input,
+        final String text) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        while (!output.toString(StandardCharsets.UTF_8).contains(text)) {
+            final int data = input.read();
+            if (data < 0) {
+                break;
+            }
+            output.write(data);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Socket with the lines of pipelined requests.
+     * @param lines Lines
+     * @return Socket
+     * @throws Exception If fails
+     */
+    private static MkSocket pipelined(final String... lines) throws Exception {
+        return new MkSocket(
+            new ByteArrayInputStream(
+                new BytesOf(new Joined(BkBasicTest.CRLF, lines)).asBytes()
+            )
+        );
+    }
+
     private static MkSocket createMockSocket() throws Exception {
         return new MkSocket(
             new ByteArrayInputStream(
@@ -9,10 +9,13 @@ import com.jcabi.http.response.RestResponse;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.ServerSocket;
+import java.net.Socket;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.takes.Take;
 import org.takes.tk.TkEmpty;
@@ -48,6 +51,86 @@ final class BkParallelTest {
         );
     }
 
+    @Test
+    void shedsConnectionWhenQueueIsFull() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BkParallel back = new BkParallel(
+            socket -> {
+                try {
+                    release.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+            },
+            1,
+            1
+        );
+        try (ServerSocket server = new ServerSocket(0)) {
+            for (int idx = 0; idx < 2; ++idx) {
+                try (Socket client = new Socket("localhost", server.getLocalPort())) {
+                    client.shutdownOutput();
+                    back.accept(server.accept());
+                }
+            }
+            try (Socket client = new Socket("localhost", server.getLocalPort())) {
+                back.accept(server.accept());
+                MatcherAssert.assertThat(
+                    "Overloaded back must answer with 503 and Retry-After",
+                    new TextOf(client.getInputStream()).asString(),
+                    Matchers.allOf(
+                        Matchers.startsWith("HTTP/1.1 503 Service Unavailable"),
+                        Matchers.containsString("Retry-After: 1")
+                    )
+                );
+            }
+        } finally {
+            release.countDown();
+        }
+        MatcherAssert.assertThat(
+            "Shed connection must be counted",
+            back.shed(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void survivesClientResetWhenQueueIsFull() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final BkParallel back = new BkParallel(
+            socket -> {
+                try {
+                    release.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+            },
+            1,
+            1
+        );
+        try (ServerSocket server = new ServerSocket(0)) {
+            for (int idx = 0; idx < 2; ++idx) {
+                try (Socket client = new Socket("localhost", server.getLocalPort())) {
+                    client.shutdownOutput();
+                    back.accept(server.accept());
+                }
+            }
+            final Socket client = new Socket("localhost", server.getLocalPort());
+            final Socket accepted = server.accept();
+            client.setSoLinger(true, 0);
+            client.close();
+            TimeUnit.MILLISECONDS.sleep(100L);
+            Assertions.assertDoesNotThrow(
+                () -> back.accept(accepted),
+                "Client reset before 503 must not break the accepting thread"
+            );
+        } finally {
+            release.countDown();
+        }
+    }
+
     private static void runParallelRequests(
         final CountDownLatch started,
         final CountDownLatch completed
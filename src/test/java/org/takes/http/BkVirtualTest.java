@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import com.jcabi.http.request.JdkRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.takes.Take;
+import org.takes.tk.TkEmpty;
+
+/**
+ * Test case for {@link BkVirtual}.
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.UnnecessaryLocalRule")
+final class BkVirtualTest {
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void runsSocketOnVirtualThread() throws Exception {
+        final AtomicBoolean named = new AtomicBoolean();
+        final CountDownLatch done = new CountDownLatch(1);
+        new BkVirtual(
+            socket -> {
+                named.set(
+                    Thread.currentThread().getName().startsWith("BkVirtual-")
+                );
+                done.countDown();
+            }
+        ).accept(new Socket());
+        done.await(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "The socket must be processed by a virtual thread",
+            named.get(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void processesRequestsInParallel() throws Exception {
+        final int count = 3;
+        final CountDownLatch started = new CountDownLatch(count);
+        final CountDownLatch completed = new CountDownLatch(count);
+        final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+        final Collection<Thread> clients = new ArrayList<>(count);
+        try (ServerSocket socket = new ServerSocket(0)) {
+            final String uri = String.format(
+                "http://localhost:%d", socket.getLocalPort()
+            );
+            final Take take = req -> {
+                started.countDown();
+                try {
+                    started.await();
+                } catch (final InterruptedException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                completed.countDown();
+                return new TkEmpty().act(req);
+            };
+            new Thread(
+                () -> {
+                    try {
+                        new FtBasic(
+                            new BkVirtual(new BkBasic(take), count),
+                            socket
+                        ).start(() -> completed.getCount() == 0);
+                    } catch (final IOException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            ).start();
+            for (int idx = 0; idx < count; ++idx) {
+                final Thread client = new Thread(
+                    () -> {
+                        try {
+                            statuses.add(new JdkRequest(uri).fetch().status());
+                        } catch (final IOException ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    }
+                );
+                client.start();
+                clients.add(client);
+            }
+            completed.await(1L, TimeUnit.MINUTES);
+            for (final Thread client : clients) {
+                client.join(TimeUnit.MINUTES.toMillis(1L));
+            }
+        }
+        MatcherAssert.assertThat(
+            "All requests must complete in parallel",
+            completed.getCount(),
+            Matchers.equalTo(0L)
+        );
+        MatcherAssert.assertThat(
+            "All requests must be answered with the status of the take",
+            statuses,
+            Matchers.allOf(
+                Matchers.<Integer>iterableWithSize(count),
+                Matchers.everyItem(
+                    Matchers.equalTo(HttpURLConnection.HTTP_NO_CONTENT)
+                )
+            )
+        );
+    }
+
+    @Test
+    void releasesSlotWhenSocketIsDone() throws Exception {
+        final Semaphore slots = new Semaphore(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        final Back back = new BkVirtual(
+            socket -> done.countDown(), slots, new Threads()
+        );
+        back.accept(new Socket());
+        back.accept(new Socket());
+        MatcherAssert.assertThat(
+            "Both sockets must be processed through a single slot",
+            done.await(1L, TimeUnit.MINUTES),
+            Matchers.is(true)
+        );
+    }
+}
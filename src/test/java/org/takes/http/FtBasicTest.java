@@ -13,6 +13,9 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.io.IOUtils;
 import org.cactoos.io.InputStreamOf;
@@ -21,6 +24,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.takes.Request;
@@ -34,6 +38,7 @@ import org.takes.rq.RqPrint;
 import org.takes.rs.RsHtml;
 import org.takes.rs.RsText;
 import org.takes.tk.TkFailure;
+import org.takes.tk.TkFiles;
 import org.takes.tk.TkText;
 
 /**
@@ -249,6 +254,29 @@ final class FtBasicTest {
         );
     }
 
+    @Test
+    @Tag("deep")
+    void sendsLargeFile(@TempDir final Path temp) throws Exception {
+        final byte[] data = new byte[3 * 1024 * 1024 + 7];
+        new Random(0L).nextBytes(data);
+        Files.write(temp.resolve("big.bin"), data);
+        final AtomicReference<byte[]> body = new AtomicReference<>();
+        new FtRemote(new TkFiles(temp.toFile())).exec(
+            home -> body.set(
+                new JdkRequest(home.resolve("/big.bin"))
+                    .fetch()
+                    .as(RestResponse.class)
+                    .assertStatus(HttpURLConnection.HTTP_OK)
+                    .binary()
+            )
+        );
+        MatcherAssert.assertThat(
+            "FtBasic must send the whole file",
+            body.get(),
+            Matchers.equalTo(data)
+        );
+    }
+
     @SuppressWarnings("PMD.CloseResource")
     private static ServerSocket server() throws IOException {
         final ServerSocket server = Mockito.mock(ServerSocket.class);
@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import com.jcabi.http.request.JdkRequest;
+import com.jcabi.http.response.RestResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.takes.Take;
+import org.takes.tk.TkText;
+
+/**
+ * Test case for {@link FtNio}.
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.UnnecessaryLocalRule")
+final class FtNioTest {
+
+    @Test
+    void servesRequest() throws Exception {
+        final CountDownLatch done = new CountDownLatch(1);
+        try (ServerSocketChannel channel = FtNioTest.channel()) {
+            final Thread thread = FtNioTest.start(
+                new TkText("hello, nio!"), channel, done
+            );
+            new JdkRequest(
+                String.format(
+                    "http://localhost:%d", channel.socket().getLocalPort()
+                )
+            )
+                .fetch()
+                .as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK)
+                .assertBody(Matchers.startsWith("hello, nio"));
+            done.countDown();
+            thread.join(TimeUnit.SECONDS.toMillis(5L));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void keepsIdleConnectionAlive() throws Exception {
+        final CountDownLatch done = new CountDownLatch(1);
+        final ServerSocketChannel channel = FtNioTest.channel();
+        final Thread thread = FtNioTest.start(
+            new TkText("ok"), channel, done
+        );
+        final String req = "GET / HTTP/1.1\r\nHost: localhost\r\n\r\n";
+        try (Socket socket = new Socket(
+            "localhost", channel.socket().getLocalPort()
+        )) {
+            final OutputStream output = socket.getOutputStream();
+            output.write(req.getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            final String first = FtNioTest.response(socket.getInputStream());
+            Thread.sleep(TimeUnit.SECONDS.toMillis(1L));
+            output.write(req.getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            MatcherAssert.assertThat(
+                "Both responses must come through one idle connection",
+                FtNioTest.response(socket.getInputStream()),
+                Matchers.allOf(
+                    Matchers.startsWith("HTTP/1.1 200 "),
+                    Matchers.equalTo(first)
+                )
+            );
+        }
+        done.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(5L));
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void servesPipelinedRequests() throws Exception {
+        final CountDownLatch done = new CountDownLatch(1);
+        final ServerSocketChannel channel = FtNioTest.channel();
+        final Thread thread = FtNioTest.start(
+            new TkText("twice"), channel, done
+        );
+        final String req = "GET / HTTP/1.1\r\nHost: localhost\r\n\r\n";
+        try (Socket socket = new Socket(
+            "localhost", channel.socket().getLocalPort()
+        )) {
+            final OutputStream output = socket.getOutputStream();
+            output.write(
+                String.join("", req, req).getBytes(StandardCharsets.UTF_8)
+            );
+            output.flush();
+            FtNioTest.response(socket.getInputStream());
+            MatcherAssert.assertThat(
+                "The second pipelined request must be answered",
+                FtNioTest.response(socket.getInputStream()),
+                Matchers.endsWith("twice")
+            );
+        }
+        done.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(5L));
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void survivesConnectionResetInHead() throws Exception {
+        final CountDownLatch done = new CountDownLatch(1);
+        final ServerSocketChannel channel = FtNioTest.channel();
+        final Thread thread = FtNioTest.start(
+            new TkText("still here"), channel, done
+        );
+        final int port = channel.socket().getLocalPort();
+        try (Socket broken = new Socket("localhost", port)) {
+            broken.getOutputStream().write(
+                "GET / HTTP/1.1\r\nHo".getBytes(StandardCharsets.UTF_8)
+            );
+            broken.getOutputStream().flush();
+            Thread.sleep(200L);
+            broken.setSoLinger(true, 0);
+        }
+        Thread.sleep(200L);
+        new JdkRequest(String.format("http://localhost:%d", port))
+            .fetch()
+            .as(RestResponse.class)
+            .assertStatus(HttpURLConnection.HTTP_OK)
+            .assertBody(Matchers.startsWith("still here"));
+        done.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(5L));
+    }
+
+    private static ServerSocketChannel channel() throws IOException {
+        return ServerSocketChannel.open().bind(new InetSocketAddress(0));
+    }
+
+    private static Thread start(final Take take,
+        final ServerSocketChannel channel, final CountDownLatch done) {
+        final Thread thread = new Thread(
+            () -> {
+                try {
+                    new FtNio(take, channel, 2).start(
+                        () -> done.getCount() == 0
+                    );
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        );
+        thread.start();
+        return thread;
+    }
+
+    private static String response(final InputStream input)
+        throws IOException {
+        final StringBuilder head = new StringBuilder(0);
+        while (!head.toString().endsWith("\r\n\r\n")) {
+            final int data = input.read();
+            if (data < 0) {
+                throw new IOException("Connection closed too early");
+            }
+            head.append((char) data);
+        }
+        final int length = Integer.parseInt(
+            head.toString().replaceAll(
+                "(?s).*Content-Length: (\\d+).*", "$1"
+            )
+        );
+        final byte[] body = new byte[length];
+        int read = 0;
+        while (read < length) {
+            read += input.read(body, read, length - read);
+        }
+        return head.append(new String(body, StandardCharsets.UTF_8))
+            .toString();
+    }
+}
@@ -4,8 +4,11 @@
  */
 package org.takes.http;
 
+import java.io.IOException;
+import java.net.ServerSocket;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -31,4 +34,53 @@ final class OptionsTest {
             Matchers.is(2)
         );
     }
+
+    @Test
+    void understandsNioArg() {
+        MatcherAssert.assertThat(
+            "NIO option should be enabled",
+            new Options("--nio --port=8080".split(" ")).nio(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void understandsQueueArg() {
+        MatcherAssert.assertThat(
+            "Queue option should limit the sockets waiting for a thread",
+            new Options("--threads=4 --queue=16".split(" ")).queue(),
+            Matchers.is(16)
+        );
+    }
+
+    @Test
+    void understandsVirtualThreadsArg() {
+        MatcherAssert.assertThat(
+            "Virtual threads option should be enabled",
+            new Options("--threads=virtual --max-connections=50".split(" "))
+                .virtual(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void understandsKeepAliveArg() {
+        MatcherAssert.assertThat(
+            "Keep-alive option should be read in milliseconds",
+            new Options("--port=8080 --keep-alive=5000".split(" ")).keepAlive(),
+            Matchers.equalTo(5000L)
+        );
+    }
+
+    @Test
+    void failsOnBusyPort() throws IOException {
+        try (ServerSocket busy = new ServerSocket(0)) {
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new Options(
+                    String.format("--port=%d", busy.getLocalPort())
+                ).socket()
+            );
+        }
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.takes.misc.Buffers;
+
+/**
+ * Test case for {@link PooledOutput}.
+ * @since 2.0
+ */
+final class PooledOutputTest {
+
+    @Test
+    void writesEverythingOnClose() throws Exception {
+        final ByteArrayOutputStream origin = new ByteArrayOutputStream();
+        final Buffers buffers = new Buffers();
+        final byte[] large = new byte[Buffers.SIZE + 1];
+        try (
+            OutputStream output = new PooledOutput(
+                origin, buffers, buffers.take()
+            )
+        ) {
+            output.write('a');
+            output.write("bc".getBytes(StandardCharsets.US_ASCII));
+            output.write(large);
+        }
+        MatcherAssert.assertThat(
+            "All bytes must be written when the stream is closed",
+            origin.toByteArray().length,
+            Matchers.equalTo(large.length + 3)
+        );
+    }
+
+    @Test
+    void givesBufferBackOnClose() throws Exception {
+        final Buffers buffers = new Buffers();
+        final byte[] buf = buffers.take();
+        new PooledOutput(new ByteArrayOutputStream(), buffers, buf).close();
+        MatcherAssert.assertThat(
+            "Buffer must be given back when the stream is closed",
+            buffers.take(),
+            Matchers.sameInstance(buf)
+        );
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.misc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Buffers}.
+ * @since 2.0
+ */
+final class BuffersTest {
+
+    @Test
+    void reusesBufferGivenBack() {
+        final Buffers buffers = new Buffers();
+        final byte[] first = buffers.take();
+        buffers.give(first);
+        MatcherAssert.assertThat(
+            "Buffer given back must be taken again by the same thread",
+            buffers.take(),
+            Matchers.sameInstance(first)
+        );
+    }
+
+    @Test
+    void givesDifferentBuffersWhenNested() {
+        final Buffers buffers = new Buffers();
+        final byte[] outer = buffers.take();
+        final byte[] inner = buffers.take();
+        buffers.give(inner);
+        buffers.give(outer);
+        MatcherAssert.assertThat(
+            "Buffers taken one after another must be different",
+            inner,
+            Matchers.not(Matchers.sameInstance(outer))
+        );
+    }
+
+    @Test
+    void copiesEverything() throws Exception {
+        final byte[] data = new byte[Buffers.SIZE * 3 + 7];
+        Arrays.fill(data, (byte) 'x');
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Buffers().copy(new ByteArrayInputStream(data), output);
+        MatcherAssert.assertThat(
+            "All bytes must be copied through the buffer",
+            output.toByteArray(),
+            Matchers.equalTo(data)
+        );
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link HeadBytes}.
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.UnnecessaryLocalRule")
+final class HeadBytesTest {
+
+    @Test
+    void givesBackBytesNotTaken() throws IOException {
+        final InputStream input = new BufferedInputStream(
+            new ByteArrayInputStream(
+                "head|body".getBytes(StandardCharsets.UTF_8)
+            )
+        );
+        final HeadBytes bytes = new HeadBytes(input);
+        while (bytes.read() != '|') {
+            bytes.next();
+        }
+        bytes.release();
+        MatcherAssert.assertThat(
+            "Stream must continue right behind the last byte taken",
+            input.read(),
+            Matchers.equalTo((int) 'b')
+        );
+    }
+
+    @Test
+    void readsBytesAsUnsigned() throws IOException {
+        MatcherAssert.assertThat(
+            "Byte must be read as an unsigned integer",
+            new HeadBytes(
+                new ByteArrayInputStream(new byte[] {(byte) 0xE2})
+            ).read(),
+            Matchers.equalTo(0xE2)
+        );
+    }
+}
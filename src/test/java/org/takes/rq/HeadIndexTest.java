@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.takes.Request;
+
+/**
+ * Test case for {@link HeadIndex}.
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.UnnecessaryLocalRule")
+final class HeadIndexTest {
+
+    @Test
+    void parsesHeadOnceForAllDecorators() throws IOException {
+        final List<String> lines = Arrays.asList(
+            "GET /once HTTP/1.1",
+            "Host: www.example.com",
+            "Accept: text/html"
+        );
+        final AtomicInteger parsed = new AtomicInteger();
+        final Iterable<String> head = () -> {
+            parsed.incrementAndGet();
+            return lines.iterator();
+        };
+        final Request req = new HeadOnce(
+            new RequestOf(head, new ByteArrayInputStream(new byte[0]))
+        );
+        new RqHeaders.Base(req).header("accept");
+        new RqHeaders.Smart(req).single("host");
+        new RqHeaders.Base(new RqWithDefaultHeader(req, "Host", "x")).names();
+        MatcherAssert.assertThat(
+            "Headers must be parsed only once for the same head",
+            parsed.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void indexesByLowerCasedNames() throws IOException {
+        MatcherAssert.assertThat(
+            "Header must be found by its lower-cased name",
+            new HeadIndex(
+                new RqFake(
+                    Arrays.asList("GET / HTTP/1.1", "X-Forwarded-Proto: https"),
+                    ""
+                )
+            ).map(),
+            Matchers.hasEntry(
+                Matchers.equalTo("x-forwarded-proto"),
+                Matchers.contains("https")
+            )
+        );
+    }
+
+    @Test
+    void refusesToModifyIndex() throws IOException {
+        final List<String> values = new HeadIndex(
+            new RqFake(
+                Arrays.asList("GET / HTTP/1.1", "Accept: text/plain"), ""
+            )
+        ).map().get("accept");
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> values.add("text/html")
+        );
+    }
+}
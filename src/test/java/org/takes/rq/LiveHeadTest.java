@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rq;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.takes.HttpException;
+
+/**
+ * Test case for {@link LiveHead}.
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.UnnecessaryLocalRule")
+final class LiveHeadTest {
+
+    @Test
+    void parsesLineLongerThanBuffer() throws IOException {
+        final String cookie = String.join("", Collections.nCopies(1000, "x"));
+        MatcherAssert.assertThat(
+            "Long header line must be parsed entirely",
+            new LiveHead(
+                LiveHeadTest.stream(
+                    String.format("GET / HTTP/1.1\r\nCookie: %s\r\n\r\n", cookie)
+                )
+            ).lines(),
+            Matchers.contains("GET / HTTP/1.1", String.format("Cookie: %s", cookie))
+        );
+    }
+
+    @Test
+    void reportsIllegalCharacterWithLineNumber() {
+        MatcherAssert.assertThat(
+            "Illegal character must be reported with its line",
+            Assertions.assertThrows(
+                HttpException.class,
+                () -> new LiveHead(
+                    LiveHeadTest.stream("GET / HTTP/1.1\r\nHost: a\u0001b")
+                ).lines()
+            ).getMessage(),
+            Matchers.equalTo(
+                "[400] illegal character 0x01 in HTTP header line #2: \"Host: a\""
+            )
+        );
+    }
+
+    @Test
+    void reportsMissingLineFeedWithLineNumber() {
+        MatcherAssert.assertThat(
+            "Missing LF must be reported with its line",
+            Assertions.assertThrows(
+                HttpException.class,
+                () -> new LiveHead(
+                    LiveHeadTest.stream("GET /x HTTP/1.1\rHost: a")
+                ).lines()
+            ).getMessage(),
+            Matchers.equalTo(
+                "[400] there is no LF after CR in header, line #1: \"GET /x HTTP/1.1\""
+            )
+        );
+    }
+
+    @Test
+    void leavesBodyInStream() throws IOException {
+        try (InputStream input = LiveHeadTest.stream(
+            "POST / HTTP/1.1\r\nHost: b\r\n\r\nbody"
+        )) {
+            new LiveHead(input).lines();
+            MatcherAssert.assertThat(
+                "Parser must not take anything beyond the head",
+                input.available(),
+                Matchers.equalTo(4)
+            );
+        }
+    }
+
+    private static InputStream stream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.takes.misc.Buffers;
+
+/**
+ * Test case for {@link AsciiHead}.
+ * @since 2.0
+ */
+final class AsciiHeadTest {
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "Content-Type: text/plain",
+            "X-Empty:",
+            "X-Space: ",
+            ":no-name",
+            "Bad Name: value",
+            "X-Tab:\tvalue",
+            "X-Tilde:~",
+            ""
+        }
+    )
+    void checksHeaderLikeRegularExpression(final String line) {
+        MatcherAssert.assertThat(
+            "Header line must be checked like by the regular expression",
+            AsciiHead.header(line),
+            Matchers.equalTo(
+                Pattern.compile("[a-zA-Z0-9\\-]+:\\p{Print}+")
+                    .matcher(line).matches()
+            )
+        );
+    }
+
+    @Test
+    void printsLongHeaderEntirely() throws Exception {
+        final String value = new String(
+            new char[Buffers.SIZE * 2]
+        ).replace('\0', 'v');
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new AsciiHead(
+            new IterableOf<>("HTTP/1.1 200 OK", "X-A: a", "X-Long: ".concat(value))
+        ).print(output);
+        MatcherAssert.assertThat(
+            "Head longer than the buffer must be printed entirely",
+            output.toString(StandardCharsets.US_ASCII),
+            Matchers.equalTo(
+                String.format(
+                    "HTTP/1.1 200 OK\r\nX-A: a\r\nX-Long: %s\r\n\r\n", value
+                )
+            )
+        );
+    }
+
+    @Test
+    void rejectsBrokenStatusLine() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new AsciiHead(new IterableOf<>("HTTP/1.1 2000 OK")).print(
+                new ByteArrayOutputStream()
+            )
+        );
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.nio.charset.StandardCharsets;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link BodyBuffer}.
+ * @since 2.0
+ */
+final class BodyBufferTest {
+
+    @Test
+    void readsWhatWasWritten() throws Exception {
+        final BodyBuffer buffer = new BodyBuffer();
+        buffer.write("rendered page".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "BodyBuffer must give all bytes written into it",
+            new TextOf(buffer.stream()),
+            new IsText("rendered page")
+        );
+    }
+}
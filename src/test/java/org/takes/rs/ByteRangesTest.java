@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.takes.misc.Opt;
+
+/**
+ * Test case for {@link ByteRanges}.
+ * @since 2.0
+ */
+final class ByteRangesTest {
+
+    @Test
+    void resolvesAllKindsOfRanges() {
+        final List<long[]> ranges =
+            new ByteRanges("bytes=-10, 5-9,20-", 100L).ranges().get();
+        MatcherAssert.assertThat(
+            "Ranges must be resolved against the length and sorted",
+            ranges.toArray(new long[0][]),
+            Matchers.equalTo(
+                new long[][]{
+                    new long[]{5L, 9L},
+                    new long[]{20L, 99L},
+                }
+            )
+        );
+    }
+
+    @Test
+    void mergesOverlappingRanges() {
+        final List<long[]> ranges =
+            new ByteRanges("bytes=10-19,0-4,5-7,15-30", 25L).ranges().get();
+        MatcherAssert.assertThat(
+            "Overlapping and touching ranges must be merged",
+            ranges.toArray(new long[0][]),
+            Matchers.equalTo(
+                new long[][]{
+                    new long[]{0L, 7L},
+                    new long[]{10L, 24L},
+                }
+            )
+        );
+    }
+
+    @Test
+    void dropsUnsatisfiableRanges() {
+        MatcherAssert.assertThat(
+            "Ranges after the end of the body must be dropped",
+            new ByteRanges("bytes=50-60,-0", 50L).ranges().get(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void ignoresInvalidHeaders() {
+        for (final String spec : new String[]{
+            "", "bytes=", "bytes=5-1", "items=0-1", "bytes=a-b", "bytes=-",
+        }) {
+            final Opt<List<long[]>> ranges =
+                new ByteRanges(spec, 10L).ranges();
+            MatcherAssert.assertThat(
+                String.format("Header '%s' must be ignored", spec),
+                ranges.has(),
+                Matchers.is(false)
+            );
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ChunkedOutputStream}.
+ * @since 2.0
+ */
+final class ChunkedOutputStreamTest {
+
+    @Test
+    void writesChunksAndLastChunk() throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream output = new ChunkedOutputStream(baos)) {
+            output.write("0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+            output.write(new byte[0]);
+            output.write('!');
+        }
+        MatcherAssert.assertThat(
+            "Chunks must be prefixed with hex sizes and end with zero chunk",
+            baos.toString("UTF-8"),
+            Matchers.equalTo("10\r\n0123456789abcdef\r\n1\r\n!\r\n0\r\n\r\n")
+        );
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link FileBody}.
+ * @since 2.0
+ */
+final class FileBodyTest {
+
+    @Test
+    void transfersNoMoreThanDeclared(@TempDir final Path temp)
+        throws Exception {
+        final Path file = temp.resolve("grown.txt");
+        Files.write(file, "Hello, world!".getBytes(StandardCharsets.UTF_8));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (FileBody body = new FileBody(
+            FileChannel.open(file, StandardOpenOption.READ), 5L
+        )) {
+            body.transfer(Channels.newChannel(output));
+        }
+        MatcherAssert.assertThat(
+            "FileBody must transfer exactly the declared length",
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("Hello")
+        );
+    }
+
+    @Test
+    void failsWhenFileIsShorterThanDeclared(@TempDir final Path temp)
+        throws Exception {
+        final Path file = temp.resolve("truncated.txt");
+        Files.write(file, "Hi".getBytes(StandardCharsets.UTF_8));
+        try (FileBody body = new FileBody(
+            FileChannel.open(file, StandardOpenOption.READ), 10L
+        )) {
+            Assertions.assertThrows(
+                IOException.class,
+                () -> body.transfer(
+                    Channels.newChannel(new ByteArrayOutputStream())
+                ),
+                "FileBody must fail instead of spinning on a short file"
+            );
+        }
+    }
+}
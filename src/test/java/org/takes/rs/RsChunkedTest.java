@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.text.Joined;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link RsChunked}.
+ * @since 2.0
+ */
+final class RsChunkedTest {
+
+    @Test
+    void printsBodyInChunks() {
+        MatcherAssert.assertThat(
+            "Response must replace Content-Length with chunked encoding",
+            new RsPrint(
+                new RsChunked(
+                    new RsWithBody(new RsWithStatus(200), "hello")
+                )
+            ),
+            new IsText(
+                new Joined(
+                    "\r\n",
+                    "HTTP/1.1 200 OK",
+                    "Transfer-Encoding: chunked",
+                    "",
+                    "5",
+                    "hello",
+                    "0",
+                    "",
+                    ""
+                )
+            )
+        );
+    }
+
+    @Test
+    void leavesNoContentLengthForStream() throws Exception {
+        MatcherAssert.assertThat(
+            "Body from a stream must not guess its Content-Length",
+            new RsWithBody(
+                new ByteArrayInputStream(
+                    "some bytes".getBytes(StandardCharsets.UTF_8)
+                )
+            ).head(),
+            Matchers.not(
+                Matchers.hasItem(Matchers.startsWith("Content-Length"))
+            )
+        );
+    }
+}
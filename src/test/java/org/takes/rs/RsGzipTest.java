@@ -9,6 +9,8 @@ import java.awt.image.RenderedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import javax.imageio.ImageIO;
 import org.apache.commons.io.IOUtils;
@@ -94,6 +96,40 @@ final class RsGzipTest {
         );
     }
 
+    @Test
+    void compressesLargeBodyOnTheFly() throws IOException {
+        final String text = String.join(
+            "", Collections.nCopies(100_000, "streamed text; ")
+        );
+        MatcherAssert.assertThat(
+            "Body compressed on the fly must decompress to original text",
+            IOUtils.toString(
+                new GZIPInputStream(
+                    new RsGzip(
+                        new RsText(text), Deflater.BEST_SPEED, 512
+                    ).body()
+                ),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo(text)
+        );
+    }
+
+    @Test
+    void streamsInChunksWithoutContentLength() throws IOException {
+        MatcherAssert.assertThat(
+            "Streamed gzip response must be chunked and have no length",
+            new RsHeadPrint(
+                new RsGzip(new RsText("chunks"), Deflater.DEFAULT_COMPRESSION, 64)
+            ).asString(),
+            Matchers.allOf(
+                Matchers.containsString("Transfer-Encoding: chunked"),
+                Matchers.containsString("Content-Encoding: gzip"),
+                Matchers.not(Matchers.containsString("Content-Length"))
+            )
+        );
+    }
+
     private static BufferedImage decompressImage(
         final int width, final int height
     ) throws IOException {
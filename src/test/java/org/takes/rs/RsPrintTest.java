@@ -4,13 +4,20 @@
  */
 package org.takes.rs;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.object.HasToString;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test case for {@link RsPrint}.
@@ -89,4 +96,46 @@ final class RsPrintTest {
             )
         );
     }
+
+    @Test
+    void printsChunkedBody() throws Exception {
+        MatcherAssert.assertThat(
+            "must print body in chunks, if the head says so",
+            new RsPrint(
+                new RsSimple(
+                    new IterableOf<>(
+                        "HTTP/1.1 200 OK",
+                        "Transfer-Encoding: chunked"
+                    ),
+                    "Hello, world!"
+                )
+            ).asString(),
+            Matchers.endsWith(
+                String.format(
+                    "%1$sd%1$sHello, world!%1$s0%1$s%1$s",
+                    RsPrintTest.CRLF
+                )
+            )
+        );
+    }
+
+    @Test
+    void transfersFileIntoChannel(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("body.txt");
+        Files.write(file, "Hello, file!".getBytes(StandardCharsets.UTF_8));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new RsPrint(new RsWithBody(file.toFile())).print(
+            output, Channels.newChannel(output)
+        );
+        MatcherAssert.assertThat(
+            "must print the head and transfer the file after it",
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.endsWith(
+                String.format(
+                    "Content-Length: 12%1$s%1$sHello, file!",
+                    RsPrintTest.CRLF
+                )
+            )
+        );
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link RsRange}.
+ * @since 2.0
+ */
+final class RsRangeTest {
+
+    /**
+     * Body of responses.
+     */
+    private static final String BODY = "0123456789abcdefghij";
+
+    @Test
+    void sendsSingleRange(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("a.txt");
+        Files.write(file, RsRangeTest.BODY.getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Single range must be sent with 206 and Content-Range",
+            new RsPrint(
+                new RsRange(new RsWithBody(file.toFile()), "bytes=5-9")
+            ).asString(),
+            Matchers.allOf(
+                Matchers.startsWith("HTTP/1.1 206 Partial Content\r\n"),
+                Matchers.containsString("Content-Range: bytes 5-9/20\r\n"),
+                Matchers.containsString("Content-Length: 5\r\n"),
+                Matchers.containsString("Accept-Ranges: bytes\r\n"),
+                Matchers.endsWith("\r\n\r\n56789")
+            )
+        );
+    }
+
+    @Test
+    void sendsManyRangesInMultipart() throws Exception {
+        final RsPrint print = new RsPrint(
+            new RsRange(
+                new RsWithType(new RsWithBody(RsRangeTest.BODY), "text/plain"),
+                "bytes=-2,0-1"
+            )
+        );
+        final String boundary = new RsHeaders.Smart(print)
+            .single("Content-Type")
+            .replace("multipart/byteranges; boundary=", "");
+        final String body = print.printBody();
+        MatcherAssert.assertThat(
+            "Many ranges must be sent as parts of multipart/byteranges",
+            body,
+            Matchers.equalTo(
+                String.join(
+                    "\r\n",
+                    String.format("--%s", boundary),
+                    "Content-Type: text/plain",
+                    "Content-Range: bytes 0-1/20",
+                    "",
+                    "01",
+                    String.format("--%s", boundary),
+                    "Content-Type: text/plain",
+                    "Content-Range: bytes 18-19/20",
+                    "",
+                    "ij",
+                    String.format("--%s--", boundary),
+                    ""
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Content-Length must be the exact length of the multipart body",
+            new RsHeaders.Smart(print).single("Content-Length"),
+            Matchers.equalTo(
+                Integer.toString(body.getBytes(StandardCharsets.UTF_8).length)
+            )
+        );
+    }
+
+    @Test
+    void rejectsUnsatisfiableRanges() throws Exception {
+        MatcherAssert.assertThat(
+            "Ranges after the end of the body must be rejected with 416",
+            new RsHeadPrint(
+                new RsRange(new RsWithBody(RsRangeTest.BODY), "bytes=20-")
+            ).asString(),
+            Matchers.allOf(
+                Matchers.startsWith("HTTP/1.1 416 Range Not Satisfiable\r\n"),
+                Matchers.containsString("Content-Range: bytes */20\r\n")
+            )
+        );
+    }
+
+    @Test
+    void sendsEntireBodyWithoutRanges() throws Exception {
+        MatcherAssert.assertThat(
+            "Entire body must be sent if the header is empty",
+            new RsPrint(
+                new RsRange(new RsWithBody(RsRangeTest.BODY), "")
+            ).asString(),
+            Matchers.allOf(
+                Matchers.startsWith("HTTP/1.1 200 OK\r\n"),
+                Matchers.containsString("Accept-Ranges: bytes\r\n"),
+                Matchers.endsWith(RsRangeTest.BODY)
+            )
+        );
+    }
+
+    @Test
+    void sendsEntireBodyOfUnknownLength() throws Exception {
+        MatcherAssert.assertThat(
+            "Body of unknown length must be sent as is",
+            new RsPrint(
+                new RsRange(
+                    new RsWithBody(
+                        new ByteArrayInputStream(
+                            RsRangeTest.BODY.getBytes(StandardCharsets.UTF_8)
+                        )
+                    ),
+                    "bytes=0-1"
+                )
+            ).asString(),
+            Matchers.allOf(
+                Matchers.startsWith("HTTP/1.1 200 OK\r\n"),
+                Matchers.endsWith(RsRangeTest.BODY)
+            )
+        );
+    }
+}
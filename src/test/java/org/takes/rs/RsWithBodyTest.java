@@ -6,9 +6,11 @@ package org.takes.rs;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.nio.file.Path;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.takes.Response;
 
 /**
@@ -35,4 +37,15 @@ final class RsWithBodyTest {
             )
         );
     }
+
+    @Test
+    void takesKnownLengthWithoutOpeningUrl(@TempDir final Path dir)
+        throws IOException {
+        MatcherAssert.assertThat(
+            "Response must not open the URL to know the length of its body",
+            new RsWithBody(dir.resolve("absent.txt").toUri().toURL(), 5L)
+                .head(),
+            Matchers.hasItem("Content-Length: 5")
+        );
+    }
 }
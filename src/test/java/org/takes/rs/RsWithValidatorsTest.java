@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RsWithValidators}.
+ * @since 2.0
+ */
+final class RsWithValidatorsTest {
+
+    @Test
+    void replacesValidators() throws Exception {
+        MatcherAssert.assertThat(
+            "Validators must be made of the time and the size",
+            new RsHeadPrint(
+                new RsWithValidators(
+                    new RsWithHeader(new RsText("hi"), "ETag", "\"old\""),
+                    1_445_412_345_000L,
+                    2L
+                )
+            ).asString(),
+            Matchers.allOf(
+                Matchers.not(Matchers.containsString("old")),
+                Matchers.containsString("ETag: \"150894a14a8-2\"\r\n"),
+                Matchers.containsString(
+                    "Last-Modified: Wed, 21 Oct 2015 07:25:45 GMT\r\n"
+                )
+            )
+        );
+    }
+}
@@ -215,6 +215,35 @@ final class RsXsltTest {
         );
     }
 
+    @Test
+    void transformsLargePageWhileReading() throws IOException {
+        final StringBuilder xml = new StringBuilder(
+            "<?xml-stylesheet href='/c.xsl' type='text/xsl'?><list>"
+        );
+        for (int idx = 0; idx < 5000; ++idx) {
+            xml.append("<i>x</i>");
+        }
+        xml.append("</list>");
+        final Text xsl = new Joined(
+            " ",
+            "<stylesheet xmlns='http://www.w3.org/1999/XSL/Transform'",
+            " version='2.0'><output method='text'/><template match='/'>",
+            "<value-of select='count(/list/i)'/></template></stylesheet>"
+        );
+        MatcherAssert.assertThat(
+            "RsXslt must find the stylesheet in the prefix and stream result",
+            new RsPrint(
+                new RsXslt(
+                    new RsText(new InputStreamOf(xml)),
+                    (href, base) -> new StreamSource(new InputStreamOf(xsl)),
+                    new XslCache(),
+                    256
+                )
+            ),
+            new EndsWith("5000")
+        );
+    }
+
     /**
      * Checking XXE vulnerability for XSLT transformer in response class {@link RsXslt}.
      */
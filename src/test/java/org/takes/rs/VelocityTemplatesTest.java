@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.velocity.Template;
+import org.apache.velocity.exception.ParseErrorException;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link VelocityTemplates}.
+ * @since 2.0
+ */
+final class VelocityTemplatesTest {
+
+    @Test
+    void parsesSameContentOnce() {
+        final VelocityTemplates templates = new VelocityTemplates(4);
+        final RuntimeInstance engine = new RuntimeInstance();
+        final Template first = templates.template(
+            engine, "hello, $name".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Template with the same content must be parsed only once",
+            templates.template(
+                engine, "hello, $name".getBytes(StandardCharsets.UTF_8)
+            ),
+            Matchers.sameInstance(first)
+        );
+    }
+
+    @Test
+    void dropsLeastRecentlyUsed() {
+        final VelocityTemplates templates = new VelocityTemplates(1);
+        final RuntimeInstance engine = new RuntimeInstance();
+        final byte[] source = "first".getBytes(StandardCharsets.UTF_8);
+        final Template first = templates.template(engine, source);
+        templates.template(engine, "second".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Template must be parsed again after it was dropped",
+            templates.template(engine, source),
+            Matchers.not(Matchers.sameInstance(first))
+        );
+    }
+
+    @Test
+    void rejectsBrokenTemplate() {
+        Assertions.assertThrows(
+            ParseErrorException.class,
+            () -> new VelocityTemplates(1).template(
+                new RuntimeInstance(),
+                "#if(".getBytes(StandardCharsets.UTF_8)
+            )
+        );
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import org.cactoos.io.InputStreamOf;
+import org.cactoos.text.Joined;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.EndsWith;
+
+/**
+ * Test case for {@link XslCache}.
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.UnnecessaryLocalRule")
+final class XslCacheTest {
+
+    @Test
+    void compilesStylesheetOnlyOnce() throws Exception {
+        final XslCache cache = new XslCache();
+        final InClasspath resolver = new InClasspath();
+        for (final String name : new String[] {"Anna", "Boris"}) {
+            MatcherAssert.assertThat(
+                "RsXslt must transform with cached stylesheet",
+                new RsPrint(
+                    new RsXslt(
+                        new RsText(
+                            new InputStreamOf(
+                                new Joined(
+                                    "",
+                                    "<?xml-stylesheet",
+                                    " href='/org/takes/rs/simple.xsl'",
+                                    " type='text/xsl'?>",
+                                    "<p><name>", name, "</name></p>"
+                                )
+                            )
+                        ),
+                        resolver,
+                        cache
+                    )
+                ),
+                new EndsWith(String.format("Hello, %s!", name))
+            );
+        }
+        MatcherAssert.assertThat(
+            "XslCache must compile the stylesheet once and then reuse it",
+            new long[] {cache.misses(), cache.hits()},
+            Matchers.equalTo(new long[] {1L, 1L})
+        );
+    }
+
+    @Test
+    void reusesStylesheetWithDefaultResolver() throws Exception {
+        final long before = RsXslt.TEMPLATES.hits();
+        for (final String name : new String[] {"Clara", "Dmitry"}) {
+            new RsPrint(
+                new RsXslt(
+                    new RsText(
+                        new InputStreamOf(
+                            new Joined(
+                                "",
+                                "<?xml-stylesheet",
+                                " href='/org/takes/rs/simple.xsl'",
+                                " type='text/xsl'?>",
+                                "<p><name>", name, "</name></p>"
+                            )
+                        )
+                    )
+                )
+            ).printBody(new ByteArrayOutputStream());
+        }
+        MatcherAssert.assertThat(
+            "RsXslt must reuse the stylesheet compiled for another response",
+            RsXslt.TEMPLATES.hits(),
+            Matchers.greaterThan(before)
+        );
+    }
+
+    @Test
+    void dropsLeastRecentlyUsed(@TempDir final Path dir) throws Exception {
+        final XslCache cache = new XslCache(1, false);
+        final TransformerFactory factory = TransformerFactory.newInstance();
+        final Path first = XslCacheTest.stylesheet(dir.resolve("a.xsl"), "a");
+        final Path second = XslCacheTest.stylesheet(dir.resolve("b.xsl"), "b");
+        for (final Path xsl : new Path[] {first, second, first}) {
+            cache.templates(factory, new StreamSource(xsl.toFile()));
+        }
+        MatcherAssert.assertThat(
+            "XslCache must compile again what doesn't fit into it",
+            cache.misses(),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    void reloadsModifiedStylesheet(@TempDir final Path dir) throws Exception {
+        final XslCache cache = new XslCache(8, true);
+        final TransformerFactory factory = TransformerFactory.newInstance();
+        final Path xsl = XslCacheTest.stylesheet(dir.resolve("c.xsl"), "old");
+        cache.templates(factory, new StreamSource(xsl.toFile()));
+        XslCacheTest.stylesheet(xsl, "new");
+        xsl.toFile().setLastModified(xsl.toFile().lastModified() + 10_000L);
+        final StringWriter out = new StringWriter();
+        cache.templates(factory, new StreamSource(xsl.toFile()))
+            .newTransformer()
+            .transform(
+                new StreamSource(new StringReader("<x/>")),
+                new StreamResult(out)
+            );
+        MatcherAssert.assertThat(
+            "XslCache must compile a stylesheet again after its file changed",
+            out.toString(),
+            Matchers.equalTo("new")
+        );
+    }
+
+    private static Path stylesheet(final Path path, final String text)
+        throws Exception {
+        return Files.write(
+            path,
+            new Joined(
+                "",
+                "<stylesheet xmlns='http://www.w3.org/1999/XSL/Transform'",
+                " version='1.0'><output method='text'/>",
+                "<template match='/'>", text, "</template></stylesheet>"
+            ).asString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
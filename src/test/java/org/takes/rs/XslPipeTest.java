@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamSource;
+import org.cactoos.io.InputStreamOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.HasString;
+import org.llorllale.cactoos.matchers.Throws;
+import org.takes.misc.StateAwareInputStream;
+
+/**
+ * Test case for {@link XslPipe}.
+ * @since 2.0
+ */
+final class XslPipeTest {
+
+    @Test
+    void producesResultLargerThanPipe() throws Exception {
+        MatcherAssert.assertThat(
+            "XslPipe must give the whole result, through a small pipe",
+            new TextOf(
+                new XslPipe(
+                    XslPipeTest.stylesheet(
+                        "<for-each select='1 to 1000'>line </for-each>"
+                    ),
+                    new InputStreamOf("<x/>"),
+                    16
+                )
+            ),
+            new HasString("line line")
+        );
+    }
+
+    @Test
+    void runsTransformationOnGivenThreads() throws Exception {
+        final AtomicInteger tasks = new AtomicInteger();
+        new TextOf(
+            new XslPipe(
+                XslPipeTest.stylesheet("<value-of select='/x'/>"),
+                new InputStreamOf("<x>pooled</x>"),
+                64,
+                task -> {
+                    tasks.incrementAndGet();
+                    new Thread(task).start();
+                }
+            )
+        ).asString();
+        MatcherAssert.assertThat(
+            "XslPipe must run the transformation on the given executor",
+            tasks.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void closesXmlWhenDone() throws Exception {
+        final StateAwareInputStream xml = new StateAwareInputStream(
+            new InputStreamOf("<x>done</x>")
+        );
+        try (XslPipe pipe = new XslPipe(
+            XslPipeTest.stylesheet("<value-of select='/x'/>"), xml, 64
+        )) {
+            new TextOf(pipe).asString();
+        }
+        MatcherAssert.assertThat(
+            "XslPipe must close the XML after the transformation",
+            xml.isClosed(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void throwsFailureOfTransformation() throws Exception {
+        final XslPipe pipe = new XslPipe(
+            XslPipeTest.stylesheet("<message terminate='yes'>stop</message>"),
+            new InputStreamOf("<x/>"),
+            64
+        );
+        MatcherAssert.assertThat(
+            "XslPipe must throw if the transformation fails",
+            () -> new TextOf(pipe).asString(),
+            new Throws<>(IOException.class)
+        );
+    }
+
+    private static Transformer stylesheet(final String body)
+        throws Exception {
+        return TransformerFactory.newInstance().newTransformer(
+            new StreamSource(
+                new StringReader(
+                    String.join(
+                        "",
+                        "<stylesheet xmlns='http://www.w3.org/1999/XSL/Transform'",
+                        " version='2.0'><output method='text'/>",
+                        "<template match='/'>", body, "</template></stylesheet>"
+                    )
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs.xe;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+
+/**
+ * Test case for {@link RsXemblyStream}.
+ * @since 2.0
+ */
+final class RsXemblyStreamTest {
+
+    @Test
+    void writesAppendingDirectives() throws Exception {
+        MatcherAssert.assertThat(
+            "XML must be written from directives that only append",
+            IOUtils.toString(
+                new RsXemblyStream(
+                    new XeStylesheet("/b.xsl"),
+                    new XeAppend(
+                        "page",
+                        new XeLink("home", "/h?a=1&b=2"),
+                        () -> new Directives().add("text").set("<\"&>").up(),
+                        new XeDate()
+                    )
+                ).body(),
+                StandardCharsets.UTF_8
+            ),
+            XhtmlMatchers.hasXPaths(
+                "/processing-instruction('xml-stylesheet')[contains(.,'/b')]",
+                "/page[@date]/links/link[@rel='home' and @href='/h?a=1&b=2']",
+                "/page/text[.='<\"&>']"
+            )
+        );
+    }
+
+    @Test
+    void fallsBackToDomForXpath() throws Exception {
+        MatcherAssert.assertThat(
+            "XML must be built by DOM if directives navigate by XPath",
+            IOUtils.toString(
+                new RsXemblyStream(
+                    new XeAppend("root", new XeMillis(false)),
+                    () -> new Directives().xpath("/root").add("extra")
+                ).body(),
+                StandardCharsets.UTF_8
+            ),
+            XhtmlMatchers.hasXPaths("/root/millis", "/root/extra")
+        );
+    }
+}
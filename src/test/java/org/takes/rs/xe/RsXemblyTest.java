@@ -13,6 +13,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.xembly.Directives;
 
 /**
@@ -78,6 +79,26 @@ final class RsXemblyTest {
         );
     }
 
+    @Test
+    void buildsUponElement() throws Exception {
+        final Document dom = RsXemblyTest.worldDom();
+        final Element city = dom.createElement("city");
+        dom.getDocumentElement().appendChild(city);
+        MatcherAssert.assertThat(
+            "XML response must be built upon a copy of the element",
+            IOUtils.toString(
+                new RsXembly(
+                    city,
+                    new XeDirectives(
+                        new Directives().xpath("/city").add("street")
+                    )
+                ).body(),
+                StandardCharsets.UTF_8
+            ),
+            XhtmlMatchers.hasXPath("/city/street")
+        );
+    }
+
     private static Document worldDom() throws Exception {
         final Document dom = DocumentBuilderFactory.newInstance()
             .newDocumentBuilder()
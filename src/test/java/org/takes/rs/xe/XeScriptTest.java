@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.rs.xe;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+
+/**
+ * Test case for {@link XeScript}.
+ * @since 2.0
+ */
+final class XeScriptTest {
+
+    @Test
+    void writesAttributesAfterChildren() throws Exception {
+        MatcherAssert.assertThat(
+            "Attribute set after children must be written to the element",
+            IOUtils.toString(
+                new XeScript(
+                    new Directives().add("a").add("b").set("x \"y\"").up()
+                        .attr("id", "1&2").pi("p", "q")
+                ).stream(),
+                StandardCharsets.UTF_8
+            ),
+            XhtmlMatchers.hasXPaths(
+                "/a[@id='1&2']/b[.='x \"y\"']",
+                "/a/processing-instruction('p')"
+            )
+        );
+    }
+
+    @Test
+    void writesLargeDocument() throws Exception {
+        final Directives dirs = new Directives().add("list");
+        final int total = 5000;
+        for (int idx = 0; idx < total; ++idx) {
+            dirs.push().add("item").attr("n", idx).set("text").pop();
+        }
+        MatcherAssert.assertThat(
+            "Document larger than a chunk must be written completely",
+            IOUtils.toString(
+                new XeScript(dirs).stream(), StandardCharsets.UTF_8
+            ),
+            XhtmlMatchers.hasXPaths(
+                "/list[count(item)=5000]",
+                "/list/item[@n='4999' and .='text']"
+            )
+        );
+    }
+
+    @Test
+    void rejectsNavigationByXpath() {
+        MatcherAssert.assertThat(
+            "Directives with XPATH must not be written without DOM",
+            new XeScript(new Directives().add("a").xpath("/a").add("b"))
+                .linear(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsSecondSetOfElement() {
+        MatcherAssert.assertThat(
+            "Second SET of an element must not be written without DOM",
+            new XeScript(new Directives().add("a").set("x").set("y"))
+                .linear(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsSecondRoot() {
+        MatcherAssert.assertThat(
+            "Second root element must not be written without DOM",
+            new XeScript(new Directives().add("a").up().add("b")).linear(),
+            Matchers.is(false)
+        );
+    }
+}
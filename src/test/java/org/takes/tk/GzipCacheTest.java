@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.takes.Take;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeader;
+import org.takes.rs.RsPrint;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithHeader;
+
+/**
+ * Test case for {@link GzipCache}.
+ * @since 2.0
+ */
+final class GzipCacheTest {
+
+    @Test
+    void compressesSameBodyOnlyOnce() throws Exception {
+        final GzipCache cache = new GzipCache(1024L);
+        final Take take = new TkGzip(new TkText("hello"), cache);
+        GzipCacheTest.body(take);
+        MatcherAssert.assertThat(
+            "GzipCache must send the same body, compressed before",
+            GzipCacheTest.body(take),
+            Matchers.equalTo("hello")
+        );
+        MatcherAssert.assertThat(
+            "GzipCache must count hits, misses and bytes saved",
+            new long[] {cache.hits(), cache.misses(), cache.saved()},
+            Matchers.equalTo(new long[] {1L, 1L, 5L})
+        );
+    }
+
+    @Test
+    void findsBodyByEntityTag() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final GzipCache cache = new GzipCache(1024L);
+        final Take take = new TkGzip(
+            req -> new RsWithHeader(
+                new RsText(String.valueOf(count.incrementAndGet())),
+                "ETag", "\"v1\""
+            ),
+            cache
+        );
+        GzipCacheTest.body(take);
+        MatcherAssert.assertThat(
+            "GzipCache must send the body kept for the same ETag",
+            GzipCacheTest.body(take),
+            Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            "GzipCache must count a hit by the ETag",
+            cache.ratio(),
+            Matchers.closeTo(0.5d, 0.001d)
+        );
+    }
+
+    @Test
+    void dropsBodiesOverBudget() throws Exception {
+        final GzipCache cache = new GzipCache(1L);
+        final Take take = new TkGzip(new TkText("large"), cache);
+        GzipCacheTest.body(take);
+        GzipCacheTest.body(take);
+        MatcherAssert.assertThat(
+            "GzipCache must not keep bodies larger than the budget",
+            cache.hits(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    /**
+     * Body of the response, decompressed.
+     * @param take Take
+     * @return Body
+     * @throws Exception If fails
+     */
+    private static String body(final Take take) throws Exception {
+        return new TextOf(
+            new GZIPInputStream(
+                new RsPrint(
+                    take.act(
+                        new RqWithHeader(
+                            new RqFake("GET", "/"),
+                            "Accept-Encoding", "gzip"
+                        )
+                    )
+                ).body()
+            )
+        ).asString();
+    }
+}
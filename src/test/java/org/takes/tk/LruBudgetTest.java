@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LruBudget}.
+ * @since 2.0
+ */
+final class LruBudgetTest {
+
+    @Test
+    void dropsLeastRecentlyUsedOverBudget() {
+        final LruBudget<String> lru = new LruBudget<>(10L, String::length);
+        lru.put("a", "aaaa");
+        lru.put("b", "bbbb");
+        lru.get("a");
+        lru.put("c", "cccc");
+        MatcherAssert.assertThat(
+            "LruBudget must drop the least recently used value",
+            new String[] {lru.get("a"), lru.get("b"), lru.get("c")},
+            Matchers.arrayContaining("aaaa", null, "cccc")
+        );
+    }
+
+    @Test
+    void refusesValueLargerThanBudget() {
+        final LruBudget<String> lru = new LruBudget<>(3L, String::length);
+        lru.put("x", "long");
+        MatcherAssert.assertThat(
+            "LruBudget must not keep a value larger than the budget",
+            lru.get("x"),
+            Matchers.nullValue()
+        );
+    }
+}
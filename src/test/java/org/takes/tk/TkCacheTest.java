@@ -0,0 +1,235 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.takes.Take;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqHeaders;
+import org.takes.rq.RqWithHeaders;
+import org.takes.rs.RsPrint;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithHeader;
+
+/**
+ * Test case for {@link TkCache}.
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.UnnecessaryLocalRule")
+final class TkCacheTest {
+
+    /**
+     * GET method.
+     */
+    private static final String GET = "GET";
+
+    /**
+     * Format of bodies, with the number of the call.
+     */
+    private static final String CALL = "#%d";
+
+    @Test
+    void sendsKeptResponse() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Take take = new TkCache(
+            req -> new RsText(String.format(TkCacheTest.CALL, calls.incrementAndGet()))
+        );
+        take.act(new RqFake(TkCacheTest.GET, "/a"));
+        MatcherAssert.assertThat(
+            "Second request must get the kept response",
+            new RsPrint(take.act(new RqFake(TkCacheTest.GET, "/a"))).asString(),
+            Matchers.allOf(
+                Matchers.containsString("Age: 0\r\n"),
+                Matchers.containsString("Content-Length: 2\r\n"),
+                Matchers.endsWith("\r\n\r\n#1")
+            )
+        );
+    }
+
+    @Test
+    void respectsCacheControl() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Take take = new TkCache(
+            req -> new RsWithHeader(
+                new RsText(String.format(TkCacheTest.CALL, calls.incrementAndGet())),
+                "Cache-Control", "no-store"
+            )
+        );
+        take.act(new RqFake(TkCacheTest.GET, "/b")).body().close();
+        take.act(new RqFake(TkCacheTest.GET, "/b")).body().close();
+        MatcherAssert.assertThat(
+            "Response with no-store must not be kept",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void dropsExpiredResponses() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Take take = new TkCache(
+            req -> new RsText(String.format(TkCacheTest.CALL, calls.incrementAndGet())),
+            1L, 1024L
+        );
+        take.act(new RqFake(TkCacheTest.GET, "/c"));
+        TimeUnit.MILLISECONDS.sleep(20L);
+        take.act(new RqFake(TkCacheTest.GET, "/c"));
+        MatcherAssert.assertThat(
+            "Expired response must be made again",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void dropsLeastRecentlyUsed() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Take take = new TkCache(
+            req -> new RsText(String.format(TkCacheTest.CALL, calls.incrementAndGet())),
+            TimeUnit.MINUTES.toMillis(1L), 300L
+        );
+        take.act(new RqFake(TkCacheTest.GET, "/d"));
+        take.act(new RqFake(TkCacheTest.GET, "/e"));
+        take.act(new RqFake(TkCacheTest.GET, "/d"));
+        MatcherAssert.assertThat(
+            "Response must be dropped when there is no room for the next",
+            calls.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    @Test
+    void tellsResponsesApartByHeaders() throws Exception {
+        final Take take = new TkCache(
+            req -> new RsText(req.head().toString()),
+            TimeUnit.MINUTES.toMillis(1L), 4096L, "Accept-Language"
+        );
+        take.act(
+            new RqWithHeaders(new RqFake(TkCacheTest.GET, "/f"), "Accept-Language: en")
+        );
+        MatcherAssert.assertThat(
+            "Responses to different headers must be kept apart",
+            new RsPrint(
+                take.act(
+                    new RqWithHeaders(
+                        new RqFake(TkCacheTest.GET, "/f"), "Accept-Language: fr"
+                    )
+                )
+            ).printBody(),
+            Matchers.containsString("fr")
+        );
+    }
+
+    @Test
+    void keepsResponsesOfUsersApart() throws Exception {
+        final Take take = new TkCache(
+            req -> new RsText(new RqHeaders.Smart(req).single("Cookie"))
+        );
+        take.act(
+            new RqWithHeaders(new RqFake(TkCacheTest.GET, "/i"), "Cookie: alice")
+        );
+        MatcherAssert.assertThat(
+            "Response to one user must not be sent to another",
+            new RsPrint(
+                take.act(
+                    new RqWithHeaders(
+                        new RqFake(TkCacheTest.GET, "/i"), "Cookie: bob"
+                    )
+                )
+            ).printBody(),
+            Matchers.equalTo("bob")
+        );
+    }
+
+    @Test
+    void sharesPublicResponsesWithUsers() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Take take = new TkCache(
+            req -> new RsWithHeader(
+                new RsText(String.format(TkCacheTest.CALL, calls.incrementAndGet())),
+                "Cache-Control", "public, max-age=60"
+            )
+        );
+        take.act(
+            new RqWithHeaders(new RqFake(TkCacheTest.GET, "/j"), "Cookie: carol")
+        );
+        MatcherAssert.assertThat(
+            "Public response must be sent to another user from the cache",
+            new RsPrint(
+                take.act(
+                    new RqWithHeaders(
+                        new RqFake(TkCacheTest.GET, "/j"), "Cookie: dave"
+                    )
+                )
+            ).printBody(),
+            Matchers.equalTo("#1")
+        );
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void sendsOneRequestForManyMisses() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch gate = new CountDownLatch(1);
+        final Take take = new TkCache(
+            req -> {
+                calls.incrementAndGet();
+                gate.await();
+                return new RsText("slow");
+            }
+        );
+        final int threads = 8;
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        final List<Future<String>> bodies = new ArrayList<>(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            bodies.add(
+                pool.submit(
+                    () -> new RsPrint(take.act(new RqFake(TkCacheTest.GET, "/g")))
+                        .printBody()
+                )
+            );
+        }
+        TimeUnit.MILLISECONDS.sleep(200L);
+        gate.countDown();
+        for (final Future<String> body : bodies) {
+            MatcherAssert.assertThat(
+                "Every request must get the response",
+                body.get(1L, TimeUnit.MINUTES),
+                Matchers.equalTo("slow")
+            );
+        }
+        pool.shutdown();
+        MatcherAssert.assertThat(
+            "Only one request must go to the take",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void dropsResponsesChangedByPost() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Take take = new TkCache(
+            req -> new RsText(String.format(TkCacheTest.CALL, calls.incrementAndGet()))
+        );
+        take.act(new RqFake(TkCacheTest.GET, "/h"));
+        take.act(new RqFake("POST", "/h"));
+        MatcherAssert.assertThat(
+            "Response must be made again after POST",
+            new RsPrint(take.act(new RqFake(TkCacheTest.GET, "/h"))).printBody(),
+            Matchers.equalTo("#3")
+        );
+    }
+}
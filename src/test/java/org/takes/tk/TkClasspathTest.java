@@ -36,6 +36,19 @@ final class TkClasspathTest {
         );
     }
 
+    @Test
+    void validatesResourceInJar() throws Exception {
+        MatcherAssert.assertThat(
+            "TkClasspath must give ETag to resources in JAR files",
+            new RsHeadPrint(
+                new TkClasspath().act(
+                    new RqFake(RqMethod.GET, "/org/hamcrest/Matcher.class", "")
+                )
+            ).asString(),
+            Matchers.containsString("ETag: \"")
+        );
+    }
+
     @Test
     void throwsWhenResourceNotFound() {
         MatcherAssert.assertThat(
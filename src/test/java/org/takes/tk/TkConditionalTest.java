@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.takes.Response;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeaders;
+import org.takes.rs.ResponseOf;
+import org.takes.rs.RsHeaders;
+import org.takes.rs.RsPrint;
+import org.takes.rs.RsWithValidators;
+
+/**
+ * Test case for {@link TkConditional}.
+ * @since 2.0
+ */
+final class TkConditionalTest {
+
+    @Test
+    void answersNotModifiedWithoutOpeningBody() throws Exception {
+        final Response res = new ResponseOf(
+            () -> new RsWithValidators(
+                new TkText("text").act(new RqFake()), 1_000_000L, 4L
+            ).head(),
+            () -> {
+                throw new IllegalStateException("Body must not be opened");
+            }
+        );
+        MatcherAssert.assertThat(
+            "Matching ETag must be answered with 304 and no body",
+            new RsPrint(
+                new TkConditional(req -> res).act(
+                    new RqWithHeaders(
+                        new RqFake(),
+                        "If-None-Match: \"x\", W/\"f4240-4\""
+                    )
+                )
+            ).asString(),
+            Matchers.allOf(
+                Matchers.startsWith("HTTP/1.1 304 Not Modified\r\n"),
+                Matchers.containsString("ETag: \"f4240-4\"\r\n"),
+                Matchers.not(Matchers.containsString("Content-Type")),
+                Matchers.endsWith("\r\n\r\n")
+            )
+        );
+    }
+
+    @Test
+    void checksModificationDate(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("a.css").toFile();
+        Files.write(file.toPath(), "a{}".getBytes(StandardCharsets.UTF_8));
+        final TkFiles take = new TkFiles(temp.toFile());
+        final String modified = new RsHeaders.Smart(
+            take.act(new RqFake("GET", "/a.css"))
+        ).single("Last-Modified");
+        MatcherAssert.assertThat(
+            "File not modified since the date must be answered with 304",
+            new RsPrint(
+                take.act(
+                    new RqWithHeaders(
+                        new RqFake("GET", "/a.css"),
+                        String.format("If-Modified-Since: %s", modified)
+                    )
+                )
+            ).asString(),
+            Matchers.startsWith("HTTP/1.1 304 ")
+        );
+        MatcherAssert.assertThat(
+            "File modified since the date must be sent",
+            new RsPrint(
+                take.act(
+                    new RqWithHeaders(
+                        new RqFake("GET", "/a.css"),
+                        "If-Modified-Since: Thu, 01 Jan 1970 00:00:00 GMT"
+                    )
+                )
+            ).asString(),
+            Matchers.endsWith("\r\n\r\na{}")
+        );
+    }
+
+    @Test
+    void sendsBodyIfEtagDoesNotMatch() throws Exception {
+        MatcherAssert.assertThat(
+            "Response must be sent if ETag doesn't match",
+            new RsPrint(
+                new TkConditional(
+                    req -> new RsWithValidators(
+                        new TkText("fresh").act(req), 2000L, 5L
+                    )
+                ).act(
+                    new RqWithHeaders(new RqFake(), "If-None-Match: \"7d0-6\"")
+                )
+            ).asString(),
+            Matchers.endsWith("\r\n\r\nfresh")
+        );
+    }
+
+    @Test
+    void hashesDynamicBody() throws Exception {
+        final TkConditional take = new TkConditional(
+            new TkText("dynamic"), true
+        );
+        final String etag = new RsHeaders.Smart(
+            take.act(new RqFake())
+        ).single("ETag");
+        MatcherAssert.assertThat(
+            "Body with the same hash must be answered with 304",
+            new RsPrint(
+                take.act(
+                    new RqWithHeaders(
+                        new RqFake(),
+                        String.format("If-None-Match: %s", etag)
+                    )
+                )
+            ).asString(),
+            Matchers.startsWith("HTTP/1.1 304 ")
+        );
+    }
+}
@@ -5,10 +5,12 @@
 package org.takes.tk;
 
 import java.io.File;
+import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import org.apache.commons.io.FileUtils;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
@@ -17,7 +19,9 @@ import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.StartsWith;
 import org.takes.HttpException;
 import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeader;
 import org.takes.rs.RsHeadPrint;
+import org.takes.rs.RsPrint;
 
 /**
  * Test case for {@link TkFiles}.
@@ -47,6 +51,75 @@ final class TkFilesTest {
         FileUtils.delete(file);
     }
 
+    @Test
+    void sendsExactLengthOfFile(@TempDir final Path temp) throws Exception {
+        FileUtils.write(
+            temp.resolve("b.txt").toFile(), "привет",
+            StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(
+            "TkFiles must set Content-Length to the size of the file",
+            new RsHeadPrint(
+                new TkFiles(temp.toFile()).act(
+                    new RqFake("GET", "/b.txt", "")
+                )
+            ).asString(),
+            Matchers.containsString("Content-Length: 12\r\n")
+        );
+    }
+
+    @Test
+    void sendsPrecompressedSibling(@TempDir final Path temp) throws Exception {
+        FileUtils.write(
+            temp.resolve("c.js").toFile(), "plain", StandardCharsets.UTF_8
+        );
+        FileUtils.write(
+            temp.resolve("c.js.gz").toFile(), "zipped", StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(
+            "TkFiles must send the .gz sibling to a client accepting GZIP",
+            new RsPrint(
+                new TkGzip(new TkFiles(temp.toFile())).act(
+                    new RqWithHeader(
+                        new RqFake("GET", "/c.js"),
+                        "Accept-Encoding", "gzip, deflate"
+                    )
+                )
+            ).asString(),
+            Matchers.allOf(
+                Matchers.containsString("Content-Encoding: gzip\r\n"),
+                Matchers.containsString("Vary: Accept-Encoding\r\n"),
+                Matchers.endsWith("\r\n\r\nzipped")
+            )
+        );
+    }
+
+    @Test
+    void sendsPlainFileWithoutEncoding(@TempDir final Path temp)
+        throws Exception {
+        FileUtils.write(
+            temp.resolve("d.css").toFile(), "plain", StandardCharsets.UTF_8
+        );
+        FileUtils.write(
+            temp.resolve("d.css.br").toFile(), "brotli", StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(
+            "TkFiles must send the file itself to a client not accepting Brotli",
+            new RsPrint(
+                new TkFiles(temp.toFile()).act(
+                    new RqWithHeader(
+                        new RqFake("GET", "/d.css"),
+                        "Accept-Encoding", "gzip"
+                    )
+                )
+            ).asString(),
+            Matchers.allOf(
+                Matchers.not(Matchers.containsString("Content-Encoding")),
+                Matchers.endsWith("\r\n\r\nplain")
+            )
+        );
+    }
+
     @Test
     void throwsWhenResourceNotFound() {
         Assertions.assertThrows(
@@ -56,4 +129,16 @@ final class TkFilesTest {
             )
         );
     }
+
+    @Test
+    void answersNotFoundForDirectory(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "TkFiles must not serve a directory as a file",
+            Assertions.assertThrows(
+                HttpException.class,
+                () -> new TkFiles(temp.toFile()).act(new RqFake())
+            ).code(),
+            Matchers.equalTo(HttpURLConnection.HTTP_NOT_FOUND)
+        );
+    }
 }
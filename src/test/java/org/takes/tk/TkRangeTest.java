@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2014-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.takes.tk;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeaders;
+import org.takes.rs.RsPrint;
+import org.takes.rs.RsWithHeader;
+
+/**
+ * Test case for {@link TkRange}.
+ * @since 2.0
+ */
+final class TkRangeTest {
+
+    @Test
+    void sendsRangeOfFile(@TempDir final Path temp) throws Exception {
+        Files.write(
+            temp.resolve("v.bin"),
+            "0123456789".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "TkFiles must send the range of the file",
+            new RsPrint(
+                new TkFiles(temp.toFile()).act(
+                    new RqWithHeaders(
+                        new RqFake("GET", "/v.bin"),
+                        "Range: bytes=7-"
+                    )
+                )
+            ).asString(),
+            Matchers.allOf(
+                Matchers.startsWith("HTTP/1.1 206 "),
+                Matchers.endsWith("\r\n\r\n789")
+            )
+        );
+    }
+
+    @Test
+    void ignoresRangeOfOtherMethods() throws Exception {
+        MatcherAssert.assertThat(
+            "Ranges must be sent only for GET",
+            new RsPrint(
+                new TkRange(new TkText("hello")).act(
+                    new RqWithHeaders(
+                        new RqFake("POST", "/"),
+                        "Range: bytes=0-0"
+                    )
+                )
+            ).asString(),
+            Matchers.endsWith("\r\n\r\nhello")
+        );
+    }
+
+    @Test
+    void checksIfRange() throws Exception {
+        final TkRange take = new TkRange(
+            req -> new RsWithHeader(
+                new TkText("hello").act(req), "ETag", "\"v1\""
+            )
+        );
+        MatcherAssert.assertThat(
+            "Range must be sent if If-Range matches ETag",
+            new RsPrint(
+                take.act(
+                    new RqWithHeaders(
+                        new RqFake("GET", "/"),
+                        "Range: bytes=1-2", "If-Range: \"v1\""
+                    )
+                )
+            ).asString(),
+            Matchers.endsWith("\r\n\r\nel")
+        );
+        MatcherAssert.assertThat(
+            "Entire body must be sent if If-Range doesn't match ETag",
+            new RsPrint(
+                take.act(
+                    new RqWithHeaders(
+                        new RqFake("GET", "/"),
+                        "Range: bytes=1-2", "If-Range: \"v2\""
+                    )
+                )
+            ).asString(),
+            Matchers.endsWith("\r\n\r\nhello")
+        );
+    }
+}